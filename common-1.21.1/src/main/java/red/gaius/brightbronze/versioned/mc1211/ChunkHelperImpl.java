@@ -1,6 +1,15 @@
 package red.gaius.brightbronze.versioned.mc1211;
 
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.chunk.PalettedContainerRO;
+import net.minecraft.world.level.chunk.storage.ChunkSerializer;
 import red.gaius.brightbronze.versioned.ChunkHelper;
 
 /**
@@ -13,4 +22,23 @@ public class ChunkHelperImpl implements ChunkHelper {
     public void markUnsaved(LevelChunk chunk) {
         chunk.setUnsaved(true);
     }
+
+    @Override
+    public void markSaved(ChunkAccess chunk) {
+        chunk.setUnsaved(false);
+    }
+
+    @Override
+    public CompoundTag serializeChunk(ServerLevel level, LevelChunk chunk) {
+        return ChunkSerializer.write(level, chunk);
+    }
+
+    @Override
+    public PalettedContainerRO<Holder<Biome>> uniformBiomes(ServerLevel level, Holder<Biome> biome) {
+        return new PalettedContainer<>(
+            level.registryAccess().registryOrThrow(Registries.BIOME).asHolderIdMap(),
+            biome,
+            PalettedContainer.Strategy.SECTION_BIOMES
+        );
+    }
 }
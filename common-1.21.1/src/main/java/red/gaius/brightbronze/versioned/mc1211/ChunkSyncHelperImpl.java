@@ -1,9 +1,14 @@
 package red.gaius.brightbronze.versioned.mc1211;
 
+import net.minecraft.network.protocol.game.ClientboundLevelChunkWithLightPacket;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.chunk.LevelChunk;
+import org.jetbrains.annotations.Nullable;
 import red.gaius.brightbronze.versioned.ChunkSyncHelper;
 
+import java.util.BitSet;
+import java.util.List;
+
 /**
  * Minecraft 1.21.1 implementation of ChunkSyncHelper.
  * 
@@ -11,31 +16,26 @@ import red.gaius.brightbronze.versioned.ChunkSyncHelper;
  * PlayerChunkSender doesn't exist. We use the lower-level approach
  * of sending chunk data packets directly.
  * 
- * <p>Note: In 1.21.1, the player.connection.chunkSender API doesn't exist.
- * Instead we need to use an alternative approach to force chunk resend.
+ * <p>The packet is built once per resync (serializing the sections and copying the
+ * light data) and the same instance is sent to every tracking player.
  */
 public class ChunkSyncHelperImpl implements ChunkSyncHelper {
     
     @Override
-    public void markChunkForResend(ServerPlayer player, LevelChunk chunk) {
-        // In 1.21.1, we need to use a different approach
-        // The ChunkMap tracks which chunks need to be sent to players
-        // We can trigger a resend by marking the chunk's position as needing update
-        
-        // Get the server level's chunk source and invalidate the player's view of this chunk
-        var serverLevel = player.serverLevel();
-        var chunkMap = serverLevel.getChunkSource().chunkMap;
-        
-        // Force the chunk to be resent by calling the appropriate method
-        // In 1.21.1, we can use chunkMap.updateChunkTracking() or send packet directly
-        var chunkPos = chunk.getPos();
-        
-        // Send the chunk data packet directly to the player
-        player.connection.send(new net.minecraft.network.protocol.game.ClientboundLevelChunkWithLightPacket(
+    public void resendChunk(List<ServerPlayer> players, LevelChunk chunk, @Nullable BitSet lightSections) {
+        if (players.isEmpty()) {
+            return;
+        }
+
+        // Full chunk; null bitsets mean light data for all sections
+        ClientboundLevelChunkWithLightPacket packet = new ClientboundLevelChunkWithLightPacket(
                 chunk,
-                serverLevel.getLightEngine(),
-                null,  // bitSet for sky light - null means all
-                null   // bitSet for block light - null means all
-        ));
+                chunk.getLevel().getLightEngine(),
+                lightSections,
+                lightSections
+        );
+        for (ServerPlayer player : players) {
+            player.connection.send(packet);
+        }
     }
 }
@@ -0,0 +1,55 @@
+package red.gaius.brightbronze.versioned.mc1211;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.world.level.ChunkPos;
+import red.gaius.brightbronze.versioned.ChunkTicketHelper;
+
+import java.util.Comparator;
+
+/**
+ * MC 1.21.1 implementation of ChunkTicketHelper.
+ * 
+ * <p>In 1.21.1, ticket types are plain objects created with {@code TicketType.create()}
+ * (no registry) and region tickets are keyed by a value, here the chunk position itself.
+ */
+public class ChunkTicketHelperImpl implements ChunkTicketHelper {
+
+    private static final TicketType<ChunkPos> CHUNK_COPY = TicketType.create(
+            "brightbronze_horizons:chunk_copy",
+            Comparator.comparingLong(ChunkPos::toLong),
+            COPY_TICKET_TIMEOUT_TICKS
+    );
+
+    private static final TicketType<ChunkPos> PLAYABLE_AREA = TicketType.create(
+            "brightbronze_horizons:playable_area",
+            Comparator.comparingLong(ChunkPos::toLong),
+            RETENTION_TICKET_TIMEOUT_TICKS
+    );
+
+    @Override
+    public void register() {
+        // Ticket types are not registry entries in 1.21.1
+    }
+
+    @Override
+    public void addCopyTicket(ServerLevel level, ChunkPos chunkPos) {
+        // Distance 0 = FULL status for this chunk only. Re-adding resets the timeout.
+        level.getChunkSource().addRegionTicket(CHUNK_COPY, chunkPos, 0, chunkPos);
+    }
+
+    @Override
+    public void removeCopyTicket(ServerLevel level, ChunkPos chunkPos) {
+        level.getChunkSource().removeRegionTicket(CHUNK_COPY, chunkPos, 0, chunkPos);
+    }
+
+    @Override
+    public void addRetentionTicket(ServerLevel level, ChunkPos chunkPos) {
+        level.getChunkSource().addRegionTicket(PLAYABLE_AREA, chunkPos, 0, chunkPos);
+    }
+
+    @Override
+    public void removeRetentionTicket(ServerLevel level, ChunkPos chunkPos) {
+        level.getChunkSource().removeRegionTicket(PLAYABLE_AREA, chunkPos, 0, chunkPos);
+    }
+}
@@ -1,5 +1,6 @@
 package red.gaius.brightbronze.versioned.mc1211;
 
+import net.minecraft.SharedConstants;
 import net.minecraft.resources.ResourceLocation;
 import red.gaius.brightbronze.versioned.*;
 
@@ -25,6 +26,7 @@ public class McVersion1211 implements McVersion {
     private final LevelHelper levelHelper = new LevelHelperImpl();
     private final ChunkHelper chunkHelper = new ChunkHelperImpl();
     private final SoundHelper soundHelper = new SoundHelperImpl();
+    private final ChunkTicketHelper chunkTicketHelper = new ChunkTicketHelperImpl();
     
     @Override
     public ResourceLocation createResourceLocation(String namespace, String path) {
@@ -38,6 +40,11 @@ public class McVersion1211 implements McVersion {
         return ResourceLocation.parse(location);
     }
     
+    @Override
+    public int dataVersion() {
+        return SharedConstants.getCurrentVersion().getDataVersion().getVersion();
+    }
+    
     @Override
     public ItemRegistry items() {
         return itemRegistry;
@@ -112,4 +119,9 @@ public class McVersion1211 implements McVersion {
     public SoundHelper sound() {
         return soundHelper;
     }
+    
+    @Override
+    public ChunkTicketHelper chunkTickets() {
+        return chunkTicketHelper;
+    }
 }
@@ -8,6 +8,7 @@ import net.minecraft.world.level.storage.DimensionDataStorage;
 import red.gaius.brightbronze.BrightbronzeHorizons;
 import red.gaius.brightbronze.versioned.SavedDataHelper;
 import red.gaius.brightbronze.world.PlayableAreaData;
+import red.gaius.brightbronze.world.chunk.DormantEntityData;
 
 /**
  * MC 1.21.1 implementation of SavedDataHelper.
@@ -21,14 +22,31 @@ public class SavedDataHelperImpl implements SavedDataHelper {
         PlayableAreaData.DATA_FIX_TYPES
     );
     
+    private static final SavedData.Factory<DormantEntityData> DORMANT_ENTITIES_FACTORY = new SavedData.Factory<>(
+        DormantEntityData::new,
+        (tag, provider) -> loadDormantEntities(tag),
+        DormantEntityData.DATA_FIX_TYPES
+    );
+    
     private static PlayableAreaData load(CompoundTag tag) {
         return PlayableAreaData.CODEC.parse(NbtOps.INSTANCE, tag)
             .resultOrPartial(error -> BrightbronzeHorizons.LOGGER.error("Failed to load PlayableAreaData: {}", error))
             .orElseGet(PlayableAreaData::new);
     }
     
+    private static DormantEntityData loadDormantEntities(CompoundTag tag) {
+        return DormantEntityData.CODEC.parse(NbtOps.INSTANCE, tag)
+            .resultOrPartial(error -> BrightbronzeHorizons.LOGGER.error("Failed to load DormantEntityData: {}", error))
+            .orElseGet(DormantEntityData::new);
+    }
+    
     @Override
     public PlayableAreaData getPlayableAreaData(DimensionDataStorage storage) {
         return storage.computeIfAbsent(FACTORY, PlayableAreaData.DATA_NAME_VALUE);
     }
+    
+    @Override
+    public DormantEntityData getDormantEntityData(DimensionDataStorage storage) {
+        return storage.computeIfAbsent(DORMANT_ENTITIES_FACTORY, DormantEntityData.DATA_NAME_VALUE);
+    }
 }
@@ -1,6 +1,14 @@
 package red.gaius.brightbronze.versioned.mc12110;
 
+import net.minecraft.core.Holder;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.chunk.PalettedContainerRO;
+import net.minecraft.world.level.chunk.storage.SerializableChunkData;
 import red.gaius.brightbronze.versioned.ChunkHelper;
 
 /**
@@ -13,4 +21,19 @@ public class ChunkHelperImpl implements ChunkHelper {
     public void markUnsaved(LevelChunk chunk) {
         chunk.markUnsaved();
     }
+
+    @Override
+    public void markSaved(ChunkAccess chunk) {
+        chunk.tryMarkSaved();
+    }
+
+    @Override
+    public CompoundTag serializeChunk(ServerLevel level, LevelChunk chunk) {
+        return SerializableChunkData.copyOf(level, chunk).write();
+    }
+
+    @Override
+    public PalettedContainerRO<Holder<Biome>> uniformBiomes(ServerLevel level, Holder<Biome> biome) {
+        return new PalettedContainer<>(biome, level.palettedContainerFactory().biomeStrategy());
+    }
 }
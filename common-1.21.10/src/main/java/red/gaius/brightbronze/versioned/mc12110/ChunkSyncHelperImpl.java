@@ -1,20 +1,35 @@
 package red.gaius.brightbronze.versioned.mc12110;
 
+import net.minecraft.network.protocol.game.ClientboundLevelChunkWithLightPacket;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.chunk.LevelChunk;
+import org.jetbrains.annotations.Nullable;
 import red.gaius.brightbronze.versioned.ChunkSyncHelper;
 
+import java.util.BitSet;
+import java.util.List;
+
 /**
  * Minecraft 1.21.10 implementation of ChunkSyncHelper.
  * 
- * <p>In 1.21.10, chunk resending uses the PlayerChunkSender API via
- * player.connection.chunkSender.markChunkPendingToSend().
+ * <p>Players whose PlayerChunkSender still has the chunk pending will receive the
+ * current contents anyway and are skipped. Everyone else gets the same packet instance,
+ * built once per resync, instead of one packet per player.
  */
 public class ChunkSyncHelperImpl implements ChunkSyncHelper {
     
     @Override
-    public void markChunkForResend(ServerPlayer player, LevelChunk chunk) {
-        // Use the new PlayerChunkSender API in MC 1.21.10
-        player.connection.chunkSender.markChunkPendingToSend(chunk);
+    public void resendChunk(List<ServerPlayer> players, LevelChunk chunk, @Nullable BitSet lightSections) {
+        long chunkPos = chunk.getPos().toLong();
+        ClientboundLevelChunkWithLightPacket packet = null;
+        for (ServerPlayer player : players) {
+            if (player.connection.chunkSender.isPending(chunkPos)) {
+                continue;
+            }
+            if (packet == null) {
+                packet = new ClientboundLevelChunkWithLightPacket(chunk, chunk.getLevel().getLightEngine(), lightSections, lightSections);
+            }
+            player.connection.send(packet);
+        }
     }
 }
@@ -0,0 +1,63 @@
+package red.gaius.brightbronze.versioned.mc12110;
+
+import dev.architectury.registry.registries.DeferredRegister;
+import dev.architectury.registry.registries.RegistrySupplier;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.world.level.ChunkPos;
+import red.gaius.brightbronze.BrightbronzeHorizons;
+import red.gaius.brightbronze.versioned.ChunkTicketHelper;
+
+/**
+ * MC 1.21.10 implementation of ChunkTicketHelper.
+ * 
+ * <p>In 1.21.10, ticket types live in a registry and are described by a timeout plus flags.
+ * Both ticket types only load chunks (no simulation), are never persisted, and may expire
+ * even if the chunk failed to load.
+ */
+public class ChunkTicketHelperImpl implements ChunkTicketHelper {
+
+    private static final DeferredRegister<TicketType> TICKET_TYPES =
+            DeferredRegister.create(BrightbronzeHorizons.MOD_ID, Registries.TICKET_TYPE);
+
+    private static final RegistrySupplier<TicketType> CHUNK_COPY = TICKET_TYPES.register(
+            "chunk_copy",
+            () -> new TicketType(
+                    COPY_TICKET_TIMEOUT_TICKS,
+                    TicketType.FLAG_LOADING | TicketType.FLAG_CAN_EXPIRE_IF_UNLOADED
+            ));
+
+    private static final RegistrySupplier<TicketType> PLAYABLE_AREA = TICKET_TYPES.register(
+            "playable_area",
+            () -> new TicketType(
+                    RETENTION_TICKET_TIMEOUT_TICKS,
+                    TicketType.FLAG_LOADING | TicketType.FLAG_CAN_EXPIRE_IF_UNLOADED
+            ));
+
+    @Override
+    public void register() {
+        TICKET_TYPES.register();
+    }
+
+    @Override
+    public void addCopyTicket(ServerLevel level, ChunkPos chunkPos) {
+        // Radius 0 = FULL status for this chunk only. Re-adding resets the timeout.
+        level.getChunkSource().addTicketWithRadius(CHUNK_COPY.get(), chunkPos, 0);
+    }
+
+    @Override
+    public void removeCopyTicket(ServerLevel level, ChunkPos chunkPos) {
+        level.getChunkSource().removeTicketWithRadius(CHUNK_COPY.get(), chunkPos, 0);
+    }
+
+    @Override
+    public void addRetentionTicket(ServerLevel level, ChunkPos chunkPos) {
+        level.getChunkSource().addTicketWithRadius(PLAYABLE_AREA.get(), chunkPos, 0);
+    }
+
+    @Override
+    public void removeRetentionTicket(ServerLevel level, ChunkPos chunkPos) {
+        level.getChunkSource().removeTicketWithRadius(PLAYABLE_AREA.get(), chunkPos, 0);
+    }
+}
@@ -1,5 +1,6 @@
 package red.gaius.brightbronze.versioned.mc12110;
 
+import net.minecraft.SharedConstants;
 import net.minecraft.resources.ResourceLocation;
 import red.gaius.brightbronze.versioned.*;
 
@@ -25,6 +26,7 @@ public class McVersion12110 implements McVersion {
     private final LevelHelper levelHelper = new LevelHelperImpl();
     private final ChunkHelper chunkHelper = new ChunkHelperImpl();
     private final SoundHelper soundHelper = new SoundHelperImpl();
+    private final ChunkTicketHelper chunkTicketHelper = new ChunkTicketHelperImpl();
     
     @Override
     public ResourceLocation createResourceLocation(String namespace, String path) {
@@ -36,6 +38,11 @@ public class McVersion12110 implements McVersion {
         return ResourceLocation.parse(location);
     }
     
+    @Override
+    public int dataVersion() {
+        return SharedConstants.getCurrentVersion().dataVersion().version();
+    }
+    
     @Override
     public ItemRegistry items() {
         return itemRegistry;
@@ -110,4 +117,9 @@ public class McVersion12110 implements McVersion {
     public SoundHelper sound() {
         return soundHelper;
     }
+    
+    @Override
+    public ChunkTicketHelper chunkTickets() {
+        return chunkTicketHelper;
+    }
 }
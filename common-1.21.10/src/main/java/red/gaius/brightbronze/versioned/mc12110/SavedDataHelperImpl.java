@@ -4,6 +4,7 @@ import net.minecraft.world.level.saveddata.SavedDataType;
 import net.minecraft.world.level.storage.DimensionDataStorage;
 import red.gaius.brightbronze.versioned.SavedDataHelper;
 import red.gaius.brightbronze.world.PlayableAreaData;
+import red.gaius.brightbronze.world.chunk.DormantEntityData;
 
 /**
  * MC 1.21.10 implementation of SavedDataHelper.
@@ -18,8 +19,20 @@ public class SavedDataHelperImpl implements SavedDataHelper {
         PlayableAreaData.DATA_FIX_TYPES
     );
     
+    private static final SavedDataType<DormantEntityData> DORMANT_ENTITIES_TYPE = new SavedDataType<>(
+        DormantEntityData.DATA_NAME_VALUE,
+        DormantEntityData::new,
+        DormantEntityData.CODEC,
+        DormantEntityData.DATA_FIX_TYPES
+    );
+    
     @Override
     public PlayableAreaData getPlayableAreaData(DimensionDataStorage storage) {
         return storage.computeIfAbsent(TYPE);
     }
+    
+    @Override
+    public DormantEntityData getDormantEntityData(DimensionDataStorage storage) {
+        return storage.computeIfAbsent(DORMANT_ENTITIES_TYPE);
+    }
 }
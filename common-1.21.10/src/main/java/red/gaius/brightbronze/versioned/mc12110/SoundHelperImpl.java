@@ -1,6 +1,9 @@
 package red.gaius.brightbronze.versioned.mc12110;
 
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.protocol.game.ClientboundSoundPacket;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundSource;
 import red.gaius.brightbronze.versioned.SoundHelper;
@@ -16,4 +19,11 @@ public class SoundHelperImpl implements SoundHelper {
                          SoundEvent sound, SoundSource source, float volume, float pitch) {
         level.playSound(null, x, y, z, sound, source, volume, pitch);
     }
+
+    @Override
+    public void playSoundTo(ServerPlayer player, double x, double y, double z,
+                            SoundEvent sound, SoundSource source, float volume, float pitch) {
+        player.connection.send(new ClientboundSoundPacket(BuiltInRegistries.SOUND_EVENT.wrapAsHolder(sound),
+            source, x, y, z, volume, pitch, player.getRandom().nextLong()));
+    }
 }
@@ -11,9 +11,22 @@ import red.gaius.brightbronze.registry.ModBlocks;
 import red.gaius.brightbronze.registry.ModCreativeTabs;
 import red.gaius.brightbronze.registry.ModItems;
 import red.gaius.brightbronze.registry.ModWorldGen;
+import red.gaius.brightbronze.versioned.Versioned;
+import red.gaius.brightbronze.world.PlayableAreaRetention;
 import red.gaius.brightbronze.world.StartingAreaManager;
 import red.gaius.brightbronze.world.chunk.ChunkExpansionManager;
+import red.gaius.brightbronze.world.chunk.DormantEntities;
+import red.gaius.brightbronze.world.chunk.LazyChunkReveal;
+import red.gaius.brightbronze.world.chunk.VoidChunkElision;
+import red.gaius.brightbronze.world.chunk.VoidChunkPackets;
 import red.gaius.brightbronze.world.compat.ModdedBiomeDetector;
+import red.gaius.brightbronze.world.dimension.SourceDimensionLifecycle;
+import red.gaius.brightbronze.world.dimension.SourceDimensionPrewarmer;
+import red.gaius.brightbronze.world.dimension.SourceDiskUsage;
+import red.gaius.brightbronze.world.dimension.SourceMaintenanceScheduler;
+import red.gaius.brightbronze.world.dimension.SourceRegionCompactor;
+import red.gaius.brightbronze.world.template.TemplatePacks;
+import red.gaius.brightbronze.world.template.TemplatePregenerator;
 
 /**
  * Main mod class for Brightbronze Horizons.
@@ -45,8 +58,34 @@ public final class BrightbronzeHorizons {
         // Register world generation components (chunk generators)
         ModWorldGen.register();
 
+        // Short-lived chunk tickets used by the chunk copy pipeline
+        Versioned.chunkTickets().register();
+
         // Phase 10/11: central server-side expansion manager (queue + bounded work)
         ChunkExpansionManager.init();
+
+        // Keep the spawn area loaded only while players are online
+        PlayableAreaRetention.init();
+
+        // Keep empty void chunks outside the playable area out of the region files
+        VoidChunkElision.init();
+        VoidChunkPackets.init();
+
+        // Create copied entities only once players come near (if enabled)
+        DormantEntities.init();
+
+        // Copy structure-completion chunks when players come near (if enabled)
+        LazyChunkReveal.init();
+
+        // Unload idle source dimensions (TTL + LRU cap)
+        SourceDimensionLifecycle.init();
+        SourceDimensionPrewarmer.init();
+        SourceRegionCompactor.init();
+        SourceDiskUsage.init();
+        SourceMaintenanceScheduler.init();
+
+        // Offline source chunk template baking (command / headless batch mode)
+        TemplatePregenerator.init();
         
         // Register server lifecycle events
         registerServerEvents();
@@ -75,6 +114,11 @@ public final class BrightbronzeHorizons {
             LOGGER.info("Server started, checking starting area initialization...");
             
             StartingAreaManager.checkAndInitialize(server);
+            PlayableAreaRetention.releaseLegacyForcedChunks(server);
+            SourceDimensionPrewarmer.start(server);
+            SourceDiskUsage.start(server);
+            TemplatePacks.importAll(server);
+            TemplatePregenerator.startHeadlessIfRequested(server);
             
             // Log modded biome detection for worldgen mod compatibility (R5)
             int moddedBiomeCount = ModdedBiomeDetector.getModdedBiomeCount(server.registryAccess());
@@ -1,24 +1,32 @@
 package red.gaius.brightbronze.command;
 
 import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.level.ChunkPos;
-import net.minecraft.world.level.storage.LevelResource;
 import red.gaius.brightbronze.BrightbronzeHorizons;
-import red.gaius.brightbronze.registry.ModDimensions;
 import red.gaius.brightbronze.world.PlayableAreaData;
 import red.gaius.brightbronze.world.dimension.SourceDimensionManager;
+import red.gaius.brightbronze.world.dimension.SourceDiskUsage;
+import red.gaius.brightbronze.world.dimension.SourceRegionCompactor;
+import red.gaius.brightbronze.world.template.SourceChunkTemplateStore;
+import red.gaius.brightbronze.world.template.TemplatePacks;
+import red.gaius.brightbronze.world.template.TemplatePregenerator;
 
 import java.io.IOException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -35,6 +43,8 @@ public final class BbhDiskCommands {
             Commands.literal("bbh:sourceUsage")
                 .requires(source -> source.hasPermission(2))
                 .executes(ctx -> sourceUsage(ctx.getSource()))
+                .then(Commands.literal("refresh")
+                    .executes(ctx -> refreshSourceUsage(ctx.getSource())))
         );
 
         dispatcher.register(
@@ -42,34 +52,138 @@ public final class BbhDiskCommands {
                 .requires(source -> source.hasPermission(2))
                 .executes(ctx -> pruneSources(ctx.getSource()))
         );
+
+        dispatcher.register(
+            Commands.literal("bbh:compactSources")
+                .requires(source -> source.hasPermission(2))
+                .executes(ctx -> compactSources(ctx.getSource()))
+        );
+
+        dispatcher.register(
+            Commands.literal("bbh:pregenTemplates")
+                .requires(source -> source.hasPermission(2))
+                .executes(ctx -> pregenStatus(ctx.getSource()))
+                .then(Commands.argument("radius", IntegerArgumentType.integer(0, 64))
+                    .executes(ctx -> pregenTemplates(ctx.getSource(), IntegerArgumentType.getInteger(ctx, "radius"))))
+        );
+
+        dispatcher.register(
+            Commands.literal("bbh:exportTemplates")
+                .requires(source -> source.hasPermission(2))
+                .then(Commands.argument("name", StringArgumentType.word())
+                    .executes(ctx -> exportTemplates(ctx.getSource(), StringArgumentType.getString(ctx, "name"))))
+        );
     }
 
-    private static int sourceUsage(CommandSourceStack source) {
-        MinecraftServer server = source.getServer();
+    private static int compactSources(CommandSourceStack source) {
+        if (SourceRegionCompactor.isRunning()) {
+            source.sendSuccess(() -> Component.literal("Compaction running: " + SourceRegionCompactor.describeProgress()
+                + "; " + humanBytes(SourceRegionCompactor.getBytesFreed()) + " freed so far"), false);
+            return 1;
+        }
+
+        int queued = SourceRegionCompactor.start(source.getServer(), () -> source.sendSuccess(
+            () -> Component.literal("Compaction complete: " + SourceRegionCompactor.describeProgress()
+                + "; freed " + humanBytes(SourceRegionCompactor.getBytesFreed())),
+            true
+        ));
+        source.sendSuccess(() -> Component.literal("Queued " + queued + " source region files for compaction. Loaded or busy source dimensions are skipped."), true);
+        return 1;
+    }
+
+    private static int pregenStatus(CommandSourceStack source) {
+        String status = TemplatePregenerator.isRunning()
+            ? "Template pregeneration running: " + TemplatePregenerator.describeProgress()
+            : "Template pregeneration is not running.";
+        source.sendSuccess(() -> Component.literal(status), false);
+        return 1;
+    }
+
+    private static int pregenTemplates(CommandSourceStack source, int radius) {
+        if (!SourceChunkTemplateStore.isEnabled()) {
+            source.sendFailure(Component.literal("Source chunk templates are disabled in the config."));
+            return 0;
+        }
+
+        int queued = TemplatePregenerator.start(source.getServer(), radius,
+            () -> source.sendSuccess(() -> Component.literal("Template pregeneration complete: " + TemplatePregenerator.describeProgress()), true));
+        if (queued < 0) {
+            source.sendFailure(Component.literal("Template pregeneration is already running: " + TemplatePregenerator.describeProgress()));
+            return 0;
+        }
+
+        source.sendSuccess(() -> Component.literal("Queued " + queued + " source chunks for template pregeneration."), true);
+        return 1;
+    }
+
+    private static int exportTemplates(CommandSourceStack source, String name) {
+        if (TemplatePregenerator.isRunning()) {
+            source.sendFailure(Component.literal("Wait for template pregeneration to finish before exporting."));
+            return 0;
+        }
+
+        try {
+            Path pack = TemplatePacks.export(source.getServer(), name);
+            source.sendSuccess(() -> Component.literal("Exported template pack to " + pack + " (" + humanBytes(sizeOf(pack)) + ")"), true);
+            return 1;
+        } catch (IOException e) {
+            BrightbronzeHorizons.LOGGER.warn("Failed to export template pack {}: {}", name, e.getMessage());
+            source.sendFailure(Component.literal("Failed to export template pack: " + e.getMessage()));
+            return 0;
+        }
+    }
 
-        Set<ResourceLocation> biomeIds = new HashSet<>();
-        biomeIds.addAll(PlayableAreaData.get(server).getRecordedBiomeIds());
-        biomeIds.addAll(SourceDimensionManager.getActiveBiomeIds());
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
 
-        if (biomeIds.isEmpty()) {
-            source.sendSuccess(() -> Component.literal("No source biomes recorded yet."), false);
+    private static int sourceUsage(CommandSourceStack source) {
+        long lastScan = SourceDiskUsage.getLastFullScanMillis();
+        if (lastScan == 0L) {
+            source.sendSuccess(() -> Component.literal("Source disk usage is still being measured; try again in a moment."), false);
             return 1;
         }
 
+        Map<ResourceLocation, SourceDiskUsage.Usage> usage = SourceDiskUsage.snapshot();
+        if (usage.isEmpty()) {
+            source.sendSuccess(() -> Component.literal("No source dimension data on disk."), false);
+            return 1;
+        }
+
+        long now = System.currentTimeMillis();
         long totalBytes = 0L;
-        for (ResourceLocation biomeId : biomeIds) {
-            Path dimDir = getSourceDimensionDir(server, biomeId);
-            long bytes = directorySizeBytes(dimDir);
+        long oldest = now;
+        List<Map.Entry<ResourceLocation, SourceDiskUsage.Usage>> entries = new ArrayList<>(usage.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<ResourceLocation, SourceDiskUsage.Usage> entry) -> entry.getValue().bytes()).reversed());
+
+        for (Map.Entry<ResourceLocation, SourceDiskUsage.Usage> entry : entries) {
+            long bytes = entry.getValue().bytes();
             totalBytes += bytes;
+            oldest = Math.min(oldest, entry.getValue().scannedAtMillis());
 
             source.sendSuccess(
-                () -> Component.literal(biomeId + ": " + humanBytes(bytes)),
+                () -> Component.literal(entry.getKey() + ": " + humanBytes(bytes)),
                 false
             );
         }
 
         long finalTotalBytes = totalBytes;
-        source.sendSuccess(() -> Component.literal("Total: " + humanBytes(finalTotalBytes)), false);
+        long ageSeconds = Math.max(0L, (now - oldest) / 1000L);
+        String scanning = SourceDiskUsage.isScanning() ? " (rescan in progress)" : "";
+        source.sendSuccess(() -> Component.literal("Total: " + humanBytes(finalTotalBytes)
+            + " - data up to " + ageSeconds + "s old" + scanning), false);
+        return 1;
+    }
+
+    private static int refreshSourceUsage(CommandSourceStack source) {
+        boolean started = SourceDiskUsage.requestFullScan(source.getServer());
+        source.sendSuccess(() -> Component.literal(started
+            ? "Started a full source disk usage rescan."
+            : "A full source disk usage rescan is already running."), false);
         return 1;
     }
 
@@ -77,14 +191,18 @@ public final class BbhDiskCommands {
         MinecraftServer server = source.getServer();
 
         // Compute used region files per biome from persisted spawned-chunk metadata.
+        // Chunks with a pre-baked template no longer need their source region file.
         Map<ResourceLocation, Set<String>> keepByBiome = new HashMap<>();
         for (var meta : PlayableAreaData.get(server).getSpawnedChunkMeta()) {
             ResourceLocation biomeId = meta.biome();
             ChunkPos pos = meta.chunk();
+            Set<String> keepFiles = keepByBiome.computeIfAbsent(biomeId, ignored -> new HashSet<>());
+            if (SourceChunkTemplateStore.contains(server, biomeId, pos)) {
+                continue;
+            }
             int rx = Math.floorDiv(pos.x, 32);
             int rz = Math.floorDiv(pos.z, 32);
-            String file = "r." + rx + "." + rz + ".mca";
-            keepByBiome.computeIfAbsent(biomeId, ignored -> new HashSet<>()).add(file);
+            keepFiles.add("r." + rx + "." + rz + ".mca");
         }
 
         if (keepByBiome.isEmpty()) {
@@ -95,12 +213,20 @@ public final class BbhDiskCommands {
         int deleted = 0;
         int kept = 0;
         int missing = 0;
+        int busy = 0;
 
         for (var entry : keepByBiome.entrySet()) {
             ResourceLocation biomeId = entry.getKey();
             Set<String> keepFiles = entry.getValue();
 
-            Path regionDir = getSourceDimensionDir(server, biomeId).resolve("region");
+            // Never delete files a loaded source dimension, a copy or a prefetch may be reading.
+            if (!SourceRegionCompactor.isIdle(server, biomeId)) {
+                busy++;
+                continue;
+            }
+
+            Path regionDir = SourceDimensionManager.getSourceDimensionDir(server, biomeId).resolve("region");
+            SourceDiskUsage.markDirty(biomeId);
             if (!Files.isDirectory(regionDir)) {
                 missing++;
                 continue;
@@ -129,47 +255,16 @@ public final class BbhDiskCommands {
         int finalDeleted = deleted;
         int finalKept = kept;
         int finalMissing = missing;
+        int finalBusy = busy;
         source.sendSuccess(
-            () -> Component.literal("Prune complete. Deleted " + finalDeleted + " region files; kept " + finalKept + ". Missing region dirs: " + finalMissing),
+            () -> Component.literal("Prune complete. Deleted " + finalDeleted + " region files; kept " + finalKept + ". Missing region dirs: " + finalMissing
+                + ". Skipped busy source dimensions: " + finalBusy),
             true
         );
 
         return 1;
     }
 
-    private static Path getSourceDimensionDir(MinecraftServer server, ResourceLocation biomeId) {
-        // Vanilla stores custom dimensions under <world>/dimensions/<namespace>/<path>/
-        // Our source dimension id is brightbronze_horizons:source/<biome_namespace>/<biome_path>
-        Path worldRoot = server.getWorldPath(LevelResource.ROOT);
-        Path dimensionsDir = worldRoot.resolve("dimensions");
-
-        ResourceLocation dimId = ModDimensions.getSourceDimensionKey(biomeId).location();
-        return dimensionsDir
-            .resolve(dimId.getNamespace())
-            .resolve(dimId.getPath());
-    }
-
-    private static long directorySizeBytes(Path dir) {
-        if (dir == null || !Files.exists(dir)) {
-            return 0L;
-        }
-
-        try (var stream = Files.walk(dir)) {
-            return stream
-                .filter(Files::isRegularFile)
-                .mapToLong(path -> {
-                    try {
-                        return Files.size(path);
-                    } catch (IOException e) {
-                        return 0L;
-                    }
-                })
-                .sum();
-        } catch (IOException e) {
-            return 0L;
-        }
-    }
-
     private static String humanBytes(long bytes) {
         if (bytes < 1024) {
             return bytes + " B";
@@ -121,6 +121,72 @@ public final class BrightbronzeConfig {
         /** Phase 11: max number of source dimensions to create (0 = unlimited). */
         public int maxSourceDimensions = 0;
 
+        /** If true, source dimensions load and generate chunks but never tick entities, blocks or weather. */
+        public boolean freezeSourceDimensions = true;
+
+        /** Seconds a source dimension may stay unused before it is saved and unloaded (0 = never). */
+        public int sourceDimensionIdleUnloadSeconds = 300;
+
+        /** Max number of source dimensions kept loaded at once; least recently used are unloaded (0 = unlimited). */
+        public int maxLoadedSourceDimensions = 8;
+
+        /** Number of most-used source dimensions to load, one at a time, after server start (0 = off). */
+        public int sourceDimensionPrewarmCount = 0;
+
+        /** If true, copies read pre-baked source chunk templates (pregenerated or imported) first. */
+        public boolean sourceChunkTemplates = true;
+
+        /** If true, every live copy also stores its source chunk as a template (lets /bbh:pruneSources delete its region file). */
+        public boolean captureCopiedChunkTemplates = false;
+
+        /** If true, spawns into untouched void chunks write chunk sections directly instead of placing blocks one by one. */
+        public boolean voidChunkTransplant = true;
+
+        /** Minutes between background compactions of source region files (0 = only when over the disk budget). */
+        public int sourceMaintenanceIntervalMinutes = 60;
+
+        /** Disk budget for all source dimensions in MiB; exceeding it triggers maintenance right away (0 = no budget). */
+        public int sourceDiskBudgetMb = 0;
+
+        /** If true, empty overworld void chunks outside the playable area are not saved to disk. */
+        public boolean elideVoidChunks = true;
+
+        /** If true, dedicated servers send empty void chunks away from the playable area from one shared payload. */
+        public boolean cacheVoidChunkPackets = true;
+
+        /** If true, air-only overworld chunks outside the playable area skip natural spawning, weather and random ticks. */
+        public boolean skipVoidChunkTicks = true;
+
+        /** Max spawn-effect particles sent per tick across all chunks revealed in that tick. */
+        public int spawnEffectParticlesPerTick = 480;
+
+        /** Max spawn-effect particles a single player is sent per tick. */
+        public int spawnEffectParticlesPerPlayer = 200;
+
+        /** If true, copied entities are stored with the chunk and only created once a player comes near. */
+        public boolean lazyEntityMaterialization = false;
+
+        /** Horizontal distance (blocks) from a player within which stored entities are created. */
+        public int entityMaterializationDistance = 48;
+
+        /** Max stored entities created per tick across all players. */
+        public int entityMaterializationsPerTick = 32;
+
+        /** Max entities held back across all chunks; copies beyond it create their entities right away. */
+        public int maxDormantEntities = 4096;
+
+        /** If true, structure-completion chunks join the playable area at once but are copied when players come near. */
+        public boolean lazyChunkReveal = false;
+
+        /** Max pending chunks copied per tick by lazy chunk reveal. */
+        public int lazyRevealCopiesPerTick = 1;
+
+        /**
+         * Radius (in chunks) around world spawn whose playable chunks are kept loaded while players
+         * are online, so respawns and joins land in loaded terrain. -1 disables spawn retention.
+         */
+        public int spawnRetentionRadius = 1;
+
         /** If true, spawning a chunk completes any structures that extend beyond that chunk. */
         public boolean enableStructureCompletion = true;
 
@@ -175,6 +241,54 @@ public final class BrightbronzeConfig {
                 maxSourceDimensions = 0;
             }
 
+            if (sourceDimensionIdleUnloadSeconds < 0) {
+                sourceDimensionIdleUnloadSeconds = 0;
+            }
+
+            if (maxLoadedSourceDimensions < 0) {
+                maxLoadedSourceDimensions = 0;
+            }
+
+            if (sourceDimensionPrewarmCount < 0) {
+                sourceDimensionPrewarmCount = 0;
+            }
+
+            if (sourceMaintenanceIntervalMinutes < 0) {
+                sourceMaintenanceIntervalMinutes = 0;
+            }
+
+            if (sourceDiskBudgetMb < 0) {
+                sourceDiskBudgetMb = 0;
+            }
+
+            if (spawnEffectParticlesPerTick < 0) {
+                spawnEffectParticlesPerTick = 0;
+            }
+
+            if (spawnEffectParticlesPerPlayer < 0) {
+                spawnEffectParticlesPerPlayer = 0;
+            }
+
+            if (entityMaterializationDistance < 0) {
+                entityMaterializationDistance = 0;
+            }
+
+            if (entityMaterializationsPerTick < 1) {
+                entityMaterializationsPerTick = 1;
+            }
+
+            if (maxDormantEntities < 0) {
+                maxDormantEntities = 0;
+            }
+
+            if (lazyRevealCopiesPerTick < 1) {
+                lazyRevealCopiesPerTick = 1;
+            }
+
+            if (spawnRetentionRadius < -1) {
+                spawnRetentionRadius = 1;
+            }
+
             if (maxStructureCompletionStructures <= 0) {
                 maxStructureCompletionStructures = 8;
             }
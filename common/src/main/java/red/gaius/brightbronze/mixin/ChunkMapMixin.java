@@ -1,18 +1,36 @@
 package red.gaius.brightbronze.mixin;
 
+import net.minecraft.core.HolderGetter;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ChunkHolder;
 import net.minecraft.server.level.ChunkMap;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.NoiseGeneratorSettings;
+import net.minecraft.world.level.levelgen.RandomState;
+import net.minecraft.world.level.levelgen.synth.NormalNoise;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import red.gaius.brightbronze.registry.ModDimensions;
 import red.gaius.brightbronze.versioned.Versioned;
+import red.gaius.brightbronze.world.chunk.ChunkResync;
 import red.gaius.brightbronze.world.chunk.ControllableChunkMap;
+import red.gaius.brightbronze.world.chunk.SectionChangeSet;
+import red.gaius.brightbronze.world.chunk.VoidChunkElision;
+import red.gaius.brightbronze.world.dimension.SharedGeneratorState;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Mixin into ChunkMap to implement ControllableChunkMap interface.
@@ -22,6 +40,12 @@ import java.util.List;
  * clients may see stale chunk data (empty void instead of copied terrain).
  * 
  * <p>Uses the version abstraction layer to handle differences between MC versions.
+ * 
+ * <p>Also makes source dimensions share one {@link RandomState} per noise settings and seed
+ * instead of building their own (see {@link SharedGeneratorState}).
+ * 
+ * <p>Empty overworld void chunks outside the playable area are neither written to nor read from
+ * the region files (see {@link VoidChunkElision}).
  */
 @Mixin(ChunkMap.class)
 public abstract class ChunkMapMixin implements ControllableChunkMap {
@@ -43,22 +67,88 @@ public abstract class ChunkMapMixin implements ControllableChunkMap {
     @Shadow
     public abstract List<ServerPlayer> getPlayers(ChunkPos chunkPos, boolean onlyOnWatchDistanceEdge);
 
+    /**
+     * Shadow of getVisibleChunkIfPresent to check whether a chunk is ticking.
+     */
+    @Shadow
+    @Nullable
+    protected abstract ChunkHolder getVisibleChunkIfPresent(long pos);
+
     /**
      * Forces the chunk to be resent to all players currently tracking it.
      * 
      * <p>Uses the version abstraction layer to handle differences between MC versions.
-     * MC 1.21.10 uses PlayerChunkSender API, while 1.21.1 uses a different approach.
+     * The chunk packet is built once and shared by all tracking players.
      */
     @Override
     public void brightbronze$forceResyncChunk(ChunkPos chunkPos) {
         // Get the chunk that's ready to send
         LevelChunk levelChunk = this.getChunkToSend(chunkPos.toLong());
         if (levelChunk != null) {
-            // For each player tracking this chunk, mark it pending to send
-            for (ServerPlayer player : this.getPlayers(chunkPos, false)) {
-                // Use the version-specific chunk sync helper
-                Versioned.chunkSync().markChunkForResend(player, levelChunk);
+            List<ServerPlayer> players = this.getPlayers(chunkPos, false);
+            if (!players.isEmpty()) {
+                Versioned.chunkSync().resendChunk(players, levelChunk, null);
             }
         }
     }
+
+    /**
+     * Resends only what a chunk copy changed. Block changes made through setBlock in a ticking
+     * chunk have already been queued by its chunk holder, which only broadcasts for ticking chunks.
+     */
+    @Override
+    public void brightbronze$resyncChanges(ChunkPos chunkPos, SectionChangeSet changes) {
+        LevelChunk levelChunk = this.getChunkToSend(chunkPos.toLong());
+        if (levelChunk == null) {
+            return;
+        }
+
+        ChunkHolder holder = this.getVisibleChunkIfPresent(chunkPos.toLong());
+        boolean vanillaBroadcast = holder != null && holder.getTickingChunk() != null;
+        ChunkResync.send(this.level, levelChunk, this.getPlayers(chunkPos, false), changes, vanillaBroadcast);
+    }
+
+    /**
+     * Source dimensions reuse a shared random state; all other levels keep vanilla behavior.
+     * {@code level} is assigned before the random state is created in the constructor.
+     */
+    @Redirect(
+        method = "<init>",
+        at = @At(
+            value = "INVOKE",
+            target = "Lnet/minecraft/world/level/levelgen/RandomState;create(Lnet/minecraft/world/level/levelgen/NoiseGeneratorSettings;Lnet/minecraft/core/HolderGetter;J)Lnet/minecraft/world/level/levelgen/RandomState;"
+        )
+    )
+    private RandomState brightbronze$shareRandomState(NoiseGeneratorSettings settings,
+                                                       HolderGetter<NormalNoise.NoiseParameters> noises,
+                                                       long seed) {
+        if (this.level != null && ModDimensions.isSourceDimension(this.level.dimension())) {
+            return SharedGeneratorState.getRandomState(settings, noises, seed);
+        }
+        return RandomState.create(settings, noises, seed);
+    }
+
+    /**
+     * Skips saving empty void chunks outside the playable area.
+     */
+    @Inject(method = "save(Lnet/minecraft/world/level/chunk/ChunkAccess;)Z", at = @At("HEAD"), cancellable = true)
+    private void brightbronze$elideVoidChunk(ChunkAccess chunk, CallbackInfoReturnable<Boolean> cir) {
+        if (VoidChunkElision.shouldSkipSave(this.level, chunk)) {
+            cir.setReturnValue(false);
+        }
+    }
+
+    /**
+     * Rebuilds elided void chunks from the shared empty template instead of generating them, and
+     * records which chunks have stored data. The playable check happens here on the server thread;
+     * the read itself completes off-thread.
+     */
+    @Inject(method = "readChunk", at = @At("RETURN"), cancellable = true)
+    private void brightbronze$readVoidTemplate(ChunkPos pos,
+                                               CallbackInfoReturnable<CompletableFuture<Optional<CompoundTag>>> cir) {
+        if (VoidChunkElision.tracksReads(this.level)) {
+            boolean rebuild = VoidChunkElision.canRebuild(this.level, pos);
+            cir.setReturnValue(cir.getReturnValue().thenApply(stored -> VoidChunkElision.orTemplate(stored, pos, rebuild)));
+        }
+    }
 }
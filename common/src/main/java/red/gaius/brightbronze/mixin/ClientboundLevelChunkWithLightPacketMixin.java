@@ -0,0 +1,48 @@
+package red.gaius.brightbronze.mixin;
+
+import net.minecraft.network.protocol.game.ClientboundLevelChunkPacketData;
+import net.minecraft.network.protocol.game.ClientboundLevelChunkWithLightPacket;
+import net.minecraft.network.protocol.game.ClientboundLightUpdatePacketData;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import red.gaius.brightbronze.world.chunk.VoidChunkPackets;
+
+import java.util.BitSet;
+
+/**
+ * Mixin into the chunk packet so empty void chunks outside the playable area reuse one encoded
+ * block and light payload (see {@link VoidChunkPackets}). The packet's own coordinates are still
+ * taken from the chunk.
+ */
+@Mixin(ClientboundLevelChunkWithLightPacket.class)
+public abstract class ClientboundLevelChunkWithLightPacketMixin {
+
+    @Redirect(
+        method = "<init>(Lnet/minecraft/world/level/chunk/LevelChunk;Lnet/minecraft/world/level/lighting/LevelLightEngine;Ljava/util/BitSet;Ljava/util/BitSet;)V",
+        at = @At(
+            value = "NEW",
+            target = "(Lnet/minecraft/world/level/chunk/LevelChunk;)Lnet/minecraft/network/protocol/game/ClientboundLevelChunkPacketData;"
+        )
+    )
+    private ClientboundLevelChunkPacketData brightbronze$shareVoidChunkData(LevelChunk chunk) {
+        return VoidChunkPackets.chunkData(chunk);
+    }
+
+    @Redirect(
+        method = "<init>(Lnet/minecraft/world/level/chunk/LevelChunk;Lnet/minecraft/world/level/lighting/LevelLightEngine;Ljava/util/BitSet;Ljava/util/BitSet;)V",
+        at = @At(
+            value = "NEW",
+            target = "(Lnet/minecraft/world/level/ChunkPos;Lnet/minecraft/world/level/lighting/LevelLightEngine;Ljava/util/BitSet;Ljava/util/BitSet;)Lnet/minecraft/network/protocol/game/ClientboundLightUpdatePacketData;"
+        )
+    )
+    private ClientboundLightUpdatePacketData brightbronze$shareVoidLightData(ChunkPos pos,
+                                                                           LevelLightEngine lightEngine,
+                                                                           BitSet skyLight,
+                                                                           BitSet blockLight) {
+        return VoidChunkPackets.lightData(pos, lightEngine, skyLight, blockLight);
+    }
+}
@@ -0,0 +1,19 @@
+package red.gaius.brightbronze.mixin;
+
+import net.minecraft.core.Holder;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainerRO;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Mixin accessor for a chunk section's biome container, so a copy can replace it with a
+ * single-biome container instead of filling it cell by cell.
+ */
+@Mixin(LevelChunkSection.class)
+public interface LevelChunkSectionAccessor {
+
+    @Accessor("biomes")
+    void setBiomes(PalettedContainerRO<Holder<Biome>> biomes);
+}
@@ -0,0 +1,17 @@
+package red.gaius.brightbronze.mixin;
+
+import net.minecraft.world.level.entity.EntityAccess;
+import net.minecraft.world.level.entity.EntitySectionStorage;
+import net.minecraft.world.level.entity.PersistentEntitySectionManager;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Mixin accessor for the section storage behind a level's entity manager.
+ */
+@Mixin(PersistentEntitySectionManager.class)
+public interface PersistentEntitySectionManagerAccessor<T extends EntityAccess> {
+
+    @Accessor("sectionStorage")
+    EntitySectionStorage<T> getSectionStorage();
+}
@@ -0,0 +1,36 @@
+package red.gaius.brightbronze.mixin;
+
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.storage.RegionFile;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import red.gaius.brightbronze.world.dimension.SourceDiskUsage;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * Reports region, entity and POI file writes to {@link SourceDiskUsage}, so only source
+ * dimensions whose files actually changed are measured again.
+ */
+@Mixin(RegionFile.class)
+public abstract class RegionFileMixin {
+
+    @Shadow
+    @Final
+    private Path path;
+
+    @Inject(method = "write(Lnet/minecraft/world/level/ChunkPos;Ljava/nio/ByteBuffer;)V", at = @At("RETURN"))
+    private void brightbronze$markWritten(ChunkPos pos, ByteBuffer data, CallbackInfo ci) {
+        SourceDiskUsage.onRegionFileChanged(this.path);
+    }
+
+    @Inject(method = "clear(Lnet/minecraft/world/level/ChunkPos;)V", at = @At("RETURN"))
+    private void brightbronze$markCleared(ChunkPos pos, CallbackInfo ci) {
+        SourceDiskUsage.onRegionFileChanged(this.path);
+    }
+}
@@ -0,0 +1,18 @@
+package red.gaius.brightbronze.mixin;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.entity.PersistentEntitySectionManager;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Mixin accessor for ServerLevel's entity manager, so chunk copies can read a chunk's entity
+ * sections directly instead of running a bounding box query.
+ */
+@Mixin(ServerLevel.class)
+public interface ServerLevelEntityAccessor {
+
+    @Accessor("entityManager")
+    PersistentEntitySectionManager<Entity> getEntityManager();
+}
@@ -0,0 +1,86 @@
+package red.gaius.brightbronze.mixin;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.entity.PersistentEntitySectionManager;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import red.gaius.brightbronze.config.BrightbronzeConfig;
+import red.gaius.brightbronze.registry.ModDimensions;
+import red.gaius.brightbronze.world.chunk.VoidChunkTicking;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Mixin into ServerLevel to freeze source dimensions.
+ * 
+ * <p>Source dimensions only exist to be read from by the chunk copy system, yet each one
+ * would otherwise run a full level tick: entity AI, random ticks, block and fluid ticks,
+ * block entities, weather and natural spawning. Entities in a freshly generated source chunk
+ * would also wander off before {@code copyEntities} picks them up.
+ * 
+ * <p>When {@code freezeSourceDimensions} is enabled, a source level's tick is reduced to the
+ * parts needed to load, generate, save and unload chunks:
+ * <ul>
+ *   <li>The chunk source tick, with chunk ticking disabled (tickets, chunk loading and saving)</li>
+ *   <li>The entity manager tick (loading and unloading entity sections with their chunks)</li>
+ * </ul>
+ * 
+ * <p>The check is per level, so any number of source dimensions can be frozen at once.
+ * 
+ * <p>In the overworld, air-only chunks outside the playable area skip natural spawning and the per-chunk
+ * tick (weather and random ticks) when {@code skipVoidChunkTicks} is enabled
+ * (see {@link VoidChunkTicking}).
+ */
+@Mixin(ServerLevel.class)
+public abstract class ServerLevelMixin {
+
+    @Final
+    @Shadow
+    private PersistentEntitySectionManager<Entity> entityManager;
+
+    @Inject(method = "tick", at = @At("HEAD"), cancellable = true)
+    private void brightbronze$freezeSourceDimension(BooleanSupplier hasTimeLeft, CallbackInfo ci) {
+        if (!BrightbronzeConfig.get().freezeSourceDimensions) {
+            return;
+        }
+
+        ServerLevel self = (ServerLevel) (Object) this;
+        if (!ModDimensions.isSourceDimension(self.dimension())) {
+            return;
+        }
+
+        // Players (e.g. via bbh:tpSource) need a live world around them.
+        if (!self.players().isEmpty()) {
+            return;
+        }
+
+        self.getChunkSource().tick(hasTimeLeft, false);
+        this.entityManager.tick();
+        ci.cancel();
+    }
+
+    /**
+     * Gates natural spawning (and, in 1.21.1, the per-chunk tick) in {@code ServerChunkCache.tickChunks}.
+     */
+    @Inject(method = "isNaturalSpawningAllowed(Lnet/minecraft/world/level/ChunkPos;)Z", at = @At("HEAD"), cancellable = true)
+    private void brightbronze$skipVoidChunkSpawning(ChunkPos pos, CallbackInfoReturnable<Boolean> cir) {
+        if (VoidChunkTicking.isInert((ServerLevel) (Object) this, pos)) {
+            cir.setReturnValue(false);
+        }
+    }
+
+    @Inject(method = "tickChunk", at = @At("HEAD"), cancellable = true)
+    private void brightbronze$skipVoidChunkTick(LevelChunk chunk, int randomTickSpeed, CallbackInfo ci) {
+        if (VoidChunkTicking.isInert((ServerLevel) (Object) this, chunk)) {
+            ci.cancel();
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package red.gaius.brightbronze.versioned;
 
+import net.minecraft.core.Holder;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.PalettedContainerRO;
 
 /**
  * Provides version-specific chunk helpers.
@@ -17,4 +23,30 @@ public interface ChunkHelper {
      * @param chunk The chunk to mark
      */
     void markUnsaved(LevelChunk chunk);
+
+    /**
+     * Clears the chunk's unsaved flag without writing it.
+     * 
+     * @param chunk The chunk to mark
+     */
+    void markSaved(ChunkAccess chunk);
+
+    /**
+     * Serializes a loaded chunk to the same NBT that vanilla writes to region files.
+     * 
+     * @param level The level the chunk belongs to
+     * @param chunk The chunk to serialize
+     * @return The chunk NBT
+     */
+    CompoundTag serializeChunk(ServerLevel level, LevelChunk chunk);
+
+    /**
+     * Creates a section biome container holding a single biome (a single-value palette with no
+     * index data).
+     * 
+     * @param level The level the section belongs to
+     * @param biome The biome
+     * @return A new biome container
+     */
+    PalettedContainerRO<Holder<Biome>> uniformBiomes(ServerLevel level, Holder<Biome> biome);
 }
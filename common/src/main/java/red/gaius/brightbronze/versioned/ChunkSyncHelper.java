@@ -1,28 +1,35 @@
 package red.gaius.brightbronze.versioned;
 
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.LevelChunk;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.List;
 
 /**
  * Version-abstracted chunk synchronization.
  * 
  * <p>Handles the differences in chunk sending between versions:
  * <ul>
- *   <li>1.21.10: Uses PlayerChunkSender.markChunkPendingToSend()</li>
- *   <li>1.21.1: Uses ChunkMap.updateChunkTracking() or packet-based approach</li>
+ *   <li>1.21.10: Sends one chunk packet directly, skipping players whose PlayerChunkSender
+ *       still has the chunk pending</li>
+ *   <li>1.21.1: Sends one chunk packet directly</li>
  * </ul>
  */
 public interface ChunkSyncHelper {
     
     /**
-     * Marks a chunk as needing to be resent to the given player.
+     * Resends a chunk to the given players.
      * 
      * <p>This is used after chunk contents have been modified (e.g., copied from
-     * a source dimension) to ensure the player sees the updated terrain.
+     * a source dimension) to ensure the players see the updated terrain. The chunk
+     * packet is built once and the same instance is sent to every player.
      * 
-     * @param player The player to resend the chunk to
+     * @param players The players tracking the chunk
      * @param chunk The chunk to resend
+     * @param lightSections Light sections to include (indexed from the lowest light section),
+     *                      or null for all of them
      */
-    void markChunkForResend(ServerPlayer player, LevelChunk chunk);
+    void resendChunk(List<ServerPlayer> players, LevelChunk chunk, @Nullable BitSet lightSections);
 }
@@ -0,0 +1,83 @@
+package red.gaius.brightbronze.versioned;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+
+/**
+ * Version-abstracted short-lived chunk tickets.
+ * 
+ * <p>Chunk copy jobs, prefetching and structure scanning need chunks to stay loaded
+ * for a few seconds at a time. Using {@code ServerLevel.setChunkForced} for this
+ * rewrites the saved forced-chunks data and leaves chunks pinned forever if the
+ * server stops mid-copy. A dedicated ticket type with a timeout is never persisted
+ * and expires on its own if it is not refreshed.
+ * 
+ * <p>Handles the differences in ticket APIs between versions:
+ * <ul>
+ *   <li>1.21.10: {@code TicketType} is a registry entry with flags; tickets are added via
+ *       {@code ServerChunkCache.addTicketWithRadius()}</li>
+ *   <li>1.21.1: {@code TicketType.create()} with a comparator; tickets are added via
+ *       {@code ServerChunkCache.addRegionTicket()}</li>
+ * </ul>
+ */
+public interface ChunkTicketHelper {
+
+    /**
+     * Timeout (in ticks) after which an un-refreshed copy ticket expires.
+     * Long enough to survive a slow tick-bounded copy, short enough that a
+     * forgotten ticket never keeps a chunk around for long.
+     */
+    int COPY_TICKET_TIMEOUT_TICKS = 20 * 15;
+
+    /**
+     * Timeout (in ticks) after which an un-refreshed playable-area retention ticket expires.
+     * The retention policy refreshes its tickets well within this window while they are needed.
+     */
+    int RETENTION_TICKET_TIMEOUT_TICKS = 20 * 10;
+
+    /**
+     * Registers the mod's ticket types. Must be called during mod initialization.
+     */
+    void register();
+
+    /**
+     * Adds (or refreshes) a short-lived copy ticket that keeps the chunk loaded at FULL status.
+     * 
+     * <p>Adding a ticket also schedules the chunk to be loaded or generated in the background,
+     * so this doubles as a prefetch.
+     * 
+     * @param level The level containing the chunk
+     * @param chunkPos The chunk to retain
+     */
+    void addCopyTicket(ServerLevel level, ChunkPos chunkPos);
+
+    /**
+     * Removes a copy ticket previously added with {@link #addCopyTicket}.
+     * Safe to call if the ticket has already expired.
+     * 
+     * @param level The level containing the chunk
+     * @param chunkPos The chunk to release
+     */
+    void removeCopyTicket(ServerLevel level, ChunkPos chunkPos);
+
+    /**
+     * Adds (or refreshes) a playable-area retention ticket that keeps the chunk loaded
+     * at FULL status without ticking it.
+     * 
+     * <p>This is a separate ticket type from the copy ticket so that a copy job finishing
+     * on a retained chunk never releases the retention.
+     * 
+     * @param level The level containing the chunk
+     * @param chunkPos The chunk to retain
+     */
+    void addRetentionTicket(ServerLevel level, ChunkPos chunkPos);
+
+    /**
+     * Removes a retention ticket previously added with {@link #addRetentionTicket}.
+     * Safe to call if the ticket has already expired.
+     * 
+     * @param level The level containing the chunk
+     * @param chunkPos The chunk to release
+     */
+    void removeRetentionTicket(ServerLevel level, ChunkPos chunkPos);
+}
@@ -29,6 +29,14 @@ public interface McVersion {
      */
     ResourceLocation parseResourceLocation(String location);
     
+    /**
+     * Returns the data version of the running game, as written to saved NBT.
+     * 
+     * <p>In 1.21.10: {@code SharedConstants.getCurrentVersion().dataVersion().version()}
+     * <p>In 1.21.1: {@code SharedConstants.getCurrentVersion().getDataVersion().getVersion()}
+     */
+    int dataVersion();
+    
     /**
      * Returns the item registry helper for this Minecraft version.
      */
@@ -103,4 +111,9 @@ public interface McVersion {
      * Returns the sound helper for this Minecraft version.
      */
     SoundHelper sound();
+    
+    /**
+     * Returns the chunk ticket helper for this Minecraft version.
+     */
+    ChunkTicketHelper chunkTickets();
 }
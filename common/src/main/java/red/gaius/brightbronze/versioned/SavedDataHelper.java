@@ -2,6 +2,7 @@ package red.gaius.brightbronze.versioned;
 
 import net.minecraft.world.level.storage.DimensionDataStorage;
 import red.gaius.brightbronze.world.PlayableAreaData;
+import red.gaius.brightbronze.world.chunk.DormantEntityData;
 
 /**
  * Version-specific helper for SavedData operations.
@@ -16,4 +17,12 @@ public interface SavedDataHelper {
      * @return The PlayableAreaData instance
      */
     PlayableAreaData getPlayableAreaData(DimensionDataStorage storage);
+
+    /**
+     * Get or create DormantEntityData from dimension data storage.
+     *
+     * @param storage The dimension data storage
+     * @return The DormantEntityData instance
+     */
+    DormantEntityData getDormantEntityData(DimensionDataStorage storage);
 }
@@ -1,6 +1,7 @@
 package red.gaius.brightbronze.versioned;
 
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundSource;
 
@@ -26,4 +27,19 @@ public interface SoundHelper {
      */
     void playSound(ServerLevel level, double x, double y, double z, 
                    SoundEvent sound, SoundSource source, float volume, float pitch);
+    
+    /**
+     * Plays a sound at the given position for one player only.
+     * 
+     * @param player The player to send the sound to
+     * @param x X coordinate
+     * @param y Y coordinate
+     * @param z Z coordinate
+     * @param sound The sound event to play
+     * @param source The sound source category
+     * @param volume The volume (0.0 to 1.0)
+     * @param pitch The pitch modifier
+     */
+    void playSoundTo(ServerPlayer player, double x, double y, double z,
+                     SoundEvent sound, SoundSource source, float volume, float pitch);
 }
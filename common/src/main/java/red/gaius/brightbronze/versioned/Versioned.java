@@ -78,6 +78,14 @@ public final class Versioned {
         return mc().parseResourceLocation(location);
     }
     
+    /**
+     * Returns the data version of the running game.
+     * Convenience method for {@code mc().dataVersion()}.
+     */
+    public static int dataVersion() {
+        return mc().dataVersion();
+    }
+    
     /**
      * Returns the item registry helper.
      * Convenience method for {@code mc().items()}.
@@ -197,4 +205,12 @@ public final class Versioned {
     public static SoundHelper sound() {
         return mc().sound();
     }
+    
+    /**
+     * Returns the chunk ticket helper.
+     * Convenience method for {@code mc().chunkTickets()}.
+     */
+    public static ChunkTicketHelper chunkTickets() {
+        return mc().chunkTickets();
+    }
 }
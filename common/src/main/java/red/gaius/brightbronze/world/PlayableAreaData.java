@@ -57,7 +57,9 @@ public class PlayableAreaData extends SavedData {
             CHUNK_POS_CODEC.fieldOf("spawn_chunk").forGetter(data -> data.spawnChunk),
             CHUNK_POS_CODEC.listOf().fieldOf("spawned_chunks").forGetter(data -> new ArrayList<>(data.spawnedChunks)),
             Codec.LONG.optionalFieldOf("rng_state", 0L).forGetter(data -> data.rngState),
-            SpawnedChunkMeta.CODEC.listOf().optionalFieldOf("spawned_chunk_meta", List.of()).forGetter(data -> data.spawnedChunkMetaList())
+            SpawnedChunkMeta.CODEC.listOf().optionalFieldOf("spawned_chunk_meta", List.of()).forGetter(data -> data.spawnedChunkMetaList()),
+            Codec.BOOL.optionalFieldOf("legacy_forced_chunks_released", false).forGetter(data -> data.legacyForcedChunksReleased),
+            CHUNK_POS_CODEC.listOf().optionalFieldOf("pending_reveal", List.of()).forGetter(data -> new ArrayList<>(data.pendingReveal))
         ).apply(instance, PlayableAreaData::new)
     );
     
@@ -87,6 +89,18 @@ public class PlayableAreaData extends SavedData {
      */
     private long rngState;
 
+    /**
+     * Whether the permanently force-loaded starting chunks from older versions have been released.
+     * New worlds never force-load them, so this starts out true.
+     */
+    private boolean legacyForcedChunksReleased;
+
+    /**
+     * Playable chunks whose terrain has not been copied yet (lazy chunk reveal). Their spawn
+     * metadata says what to copy.
+     */
+    private final Set<ChunkPos> pendingReveal;
+
     /**
      * Creates a new empty PlayableAreaData.
      * Used for new worlds.
@@ -97,17 +111,21 @@ public class PlayableAreaData extends SavedData {
         this.initialized = false;
         this.spawnChunk = new ChunkPos(0, 0);
         this.rngState = 0L;
+        this.legacyForcedChunksReleased = true;
+        this.pendingReveal = new HashSet<>();
     }
     
     /**
      * Creates PlayableAreaData from loaded data.
      * Used by the Codec during deserialization.
      */
-    private PlayableAreaData(boolean initialized, ChunkPos spawnChunk, List<ChunkPos> spawnedChunks, long rngState, List<SpawnedChunkMeta> meta) {
+    private PlayableAreaData(boolean initialized, ChunkPos spawnChunk, List<ChunkPos> spawnedChunks, long rngState, List<SpawnedChunkMeta> meta, boolean legacyForcedChunksReleased, List<ChunkPos> pendingReveal) {
         this.initialized = initialized;
         this.spawnChunk = spawnChunk;
         this.spawnedChunks = new HashSet<>(spawnedChunks);
         this.rngState = rngState;
+        this.legacyForcedChunksReleased = legacyForcedChunksReleased;
+        this.pendingReveal = new HashSet<>(pendingReveal);
 
         this.spawnedChunkMeta = new HashMap<>();
         if (meta != null) {
@@ -181,6 +199,21 @@ public class PlayableAreaData extends SavedData {
         setDirty();
     }
 
+    /**
+     * @return Whether the legacy force-loaded starting chunks have already been released
+     */
+    public boolean isLegacyForcedChunksReleased() {
+        return legacyForcedChunksReleased;
+    }
+
+    /**
+     * Records that the legacy force-loaded starting chunks have been released.
+     */
+    public void markLegacyForcedChunksReleased() {
+        this.legacyForcedChunksReleased = true;
+        setDirty();
+    }
+
     /**
      * Returns a deterministic random int in [0, bound).
      *
@@ -314,6 +347,31 @@ public class PlayableAreaData extends SavedData {
         return added;
     }
 
+    /**
+     * Marks a playable chunk as not copied yet (see {@code LazyChunkReveal}).
+     */
+    public void markPendingReveal(ChunkPos pos) {
+        if (pendingReveal.add(pos)) {
+            setDirty();
+        }
+    }
+
+    /**
+     * Records that a pending chunk's terrain has been copied.
+     */
+    public void clearPendingReveal(ChunkPos pos) {
+        if (pendingReveal.remove(pos)) {
+            setDirty();
+        }
+    }
+
+    /**
+     * @return An unmodifiable view of the playable chunks whose terrain has not been copied yet
+     */
+    public Set<ChunkPos> getPendingReveals() {
+        return Collections.unmodifiableSet(pendingReveal);
+    }
+
     /**
      * Records metadata about a spawned chunk for Phase 10/11 reporting and pruning.
      * 
@@ -361,6 +419,14 @@ public class PlayableAreaData extends SavedData {
         return out;
     }
 
+    /**
+     * @return The spawn metadata recorded for a chunk, or null if none was recorded
+     */
+    @org.jetbrains.annotations.Nullable
+    public SpawnedChunkMeta getSpawnedChunkMeta(ChunkPos pos) {
+        return spawnedChunkMeta.get(chunkKey(pos));
+    }
+
     public List<SpawnedChunkMeta> getSpawnedChunkMeta() {
         return spawnedChunkMetaList();
     }
@@ -0,0 +1,139 @@
+package red.gaius.brightbronze.world;
+
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.TickEvent;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import red.gaius.brightbronze.BrightbronzeHorizons;
+import red.gaius.brightbronze.config.BrightbronzeConfig;
+import red.gaius.brightbronze.versioned.Versioned;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Playable-area-aware chunk retention for the overworld.
+ *
+ * <p>Older versions force-loaded the 3×3 starting chunks forever, so they ticked and stayed
+ * in memory even on an empty server. This policy instead keeps only what is needed:
+ * <ul>
+ *   <li>Playable chunks within {@code spawnRetentionRadius} of world spawn, and only while
+ *       at least one player is online (joins and respawns land in loaded terrain)</li>
+ *   <li>Chunks near players are already held by vanilla player tickets</li>
+ * </ul>
+ *
+ * <p>Everything else unloads normally. Copied terrain is saved when a chunk unloads, so no
+ * data is lost. Retention uses timed tickets that are refreshed periodically; if the server
+ * goes idle they simply expire.
+ */
+public final class PlayableAreaRetention {
+
+    /** How often (in ticks) the retained set is recomputed and its tickets refreshed. */
+    private static final int REFRESH_INTERVAL_TICKS = 20;
+
+    private static Set<ChunkPos> retained = new HashSet<>();
+    private static int ticksUntilRefresh;
+    private static boolean tickHookRegistered;
+
+    private PlayableAreaRetention() {
+    }
+
+    public static void init() {
+        if (tickHookRegistered) {
+            return;
+        }
+        tickHookRegistered = true;
+
+        TickEvent.SERVER_POST.register(PlayableAreaRetention::tick);
+        LifecycleEvent.SERVER_STOPPING.register(server -> retained = new HashSet<>());
+    }
+
+    private static void tick(MinecraftServer server) {
+        if (--ticksUntilRefresh > 0) {
+            return;
+        }
+        ticksUntilRefresh = REFRESH_INTERVAL_TICKS;
+
+        ServerLevel overworld = server.getLevel(Level.OVERWORLD);
+        if (overworld == null) {
+            return;
+        }
+
+        Set<ChunkPos> wanted = computeRetainedChunks(server, overworld);
+
+        for (ChunkPos pos : retained) {
+            if (!wanted.contains(pos)) {
+                Versioned.chunkTickets().removeRetentionTicket(overworld, pos);
+            }
+        }
+
+        // Re-adding refreshes the timeout of tickets we already hold.
+        for (ChunkPos pos : wanted) {
+            Versioned.chunkTickets().addRetentionTicket(overworld, pos);
+        }
+
+        retained = wanted;
+    }
+
+    private static Set<ChunkPos> computeRetainedChunks(MinecraftServer server, ServerLevel overworld) {
+        Set<ChunkPos> wanted = new HashSet<>();
+
+        int radius = BrightbronzeConfig.get().spawnRetentionRadius;
+        if (radius < 0 || server.getPlayerCount() == 0) {
+            // Idle server: let the whole playable area unload.
+            return wanted;
+        }
+
+        PlayableAreaData data = PlayableAreaData.get(server);
+        if (!data.isInitialized()) {
+            return wanted;
+        }
+
+        BlockPos spawnPos = Versioned.spawn().getSpawnPosition(overworld);
+        ChunkPos spawnChunk = spawnPos != null ? new ChunkPos(spawnPos) : data.getSpawnChunk();
+
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                ChunkPos pos = new ChunkPos(spawnChunk.x + dx, spawnChunk.z + dz);
+                // Void chunks outside the playable area are not worth keeping.
+                if (data.isChunkPlayable(pos)) {
+                    wanted.add(pos);
+                }
+            }
+        }
+
+        return wanted;
+    }
+
+    /**
+     * Releases the starting chunks that older versions force-loaded permanently.
+     *
+     * <p>Runs once per world; the result is persisted in {@link PlayableAreaData}.
+     *
+     * @param server The Minecraft server
+     */
+    public static void releaseLegacyForcedChunks(MinecraftServer server) {
+        PlayableAreaData data = PlayableAreaData.get(server);
+        if (data.isLegacyForcedChunksReleased() || !data.isInitialized()) {
+            return;
+        }
+
+        ServerLevel overworld = server.getLevel(Level.OVERWORLD);
+        if (overworld == null) {
+            return;
+        }
+
+        int released = 0;
+        for (ChunkPos pos : StartingAreaManager.getStartingChunks(data.getSpawnChunk())) {
+            if (overworld.setChunkForced(pos.x, pos.z, false)) {
+                released++;
+            }
+        }
+
+        data.markLegacyForcedChunksReleased();
+        BrightbronzeHorizons.LOGGER.info("Released {} legacy force-loaded starting chunks", released);
+    }
+}
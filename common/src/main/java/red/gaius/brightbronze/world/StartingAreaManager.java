@@ -171,16 +171,9 @@ public class StartingAreaManager {
         
         // NOTE: We do NOT call overworld.save() here - it triggers other mods' save handlers
         // (like FTBQuests) which may not be fully initialized during SERVER_STARTED.
-        // The chunks are already modified in memory and will be saved naturally when
-        // the world auto-saves or the player leaves. Force-loading ensures they stay loaded.
-        
-        // Force-load all starting chunks to ensure they remain loaded and are saved properly
-        BrightbronzeHorizons.LOGGER.info("Force-loading starting chunks...");
-        for (ChunkPos chunkPos : startingChunks) {
-            overworld.setChunkForced(chunkPos.x, chunkPos.z, true);
-            // Get the chunk to ensure it's fully loaded in memory
-            overworld.getChunk(chunkPos.x, chunkPos.z);
-        }
+        // The chunks are already modified in memory and are saved when the world auto-saves
+        // or when they unload. We intentionally do not force-load them: PlayableAreaRetention
+        // keeps the spawn area loaded while players are online and lets it unload otherwise.
 
         // Mark as initialized even if some chunks failed
         // (graceful degradation - player can still play)
@@ -3,18 +3,12 @@ package red.gaius.brightbronze.world.chunk;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.DoubleTag;
-import net.minecraft.nbt.ListTag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ChunkResult;
 import net.minecraft.server.level.GenerationChunkHolder;
-import net.minecraft.world.entity.Entity;
-import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.biome.Biome;
-import net.minecraft.world.level.biome.BiomeResolver;
-import net.minecraft.world.level.biome.Climate;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.LeavesBlock;
@@ -24,16 +18,21 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.status.ChunkStatus;
 import net.minecraft.world.level.chunk.LevelChunk;
-import net.minecraft.world.phys.AABB;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import red.gaius.brightbronze.BrightbronzeHorizons;
+import red.gaius.brightbronze.mixin.LevelChunkSectionAccessor;
+import red.gaius.brightbronze.registry.ModDimensions;
 import red.gaius.brightbronze.versioned.Versioned;
 import red.gaius.brightbronze.world.rules.BlockReplacementRule;
+import red.gaius.brightbronze.world.template.ChunkTemplate;
+import red.gaius.brightbronze.world.template.SourceChunkTemplateStore;
 
 
 import org.jetbrains.annotations.Nullable;
 
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -57,6 +56,10 @@ public class ChunkCopyService {
      */
     public static final int LAYERS_PER_TICK = 8;
 
+    /** Resyncs held back by an open batch, in completion order. Server thread only. */
+    private static final Map<ChunkPos, PendingResync> DEFERRED_RESYNCS = new LinkedHashMap<>();
+    private static int resyncBatchDepth;
+
     /**
      * Phase 11: tick-bounded chunk copy job.
      *
@@ -73,6 +76,7 @@ public class ChunkCopyService {
 
         return new ChunkCopyJob(
             sourceLevel,
+            null,
             sourceChunkPos,
             targetLevel,
             targetChunkPos,
@@ -81,12 +85,67 @@ public class ChunkCopyService {
         );
     }
 
+    /**
+     * Creates a tick-bounded copy job that reads from a pre-baked template instead of a
+     * source dimension.
+     */
+    public static ChunkCopyJob createJob(
+        ChunkTemplate template,
+        ServerLevel targetLevel,
+        ChunkPos targetChunkPos,
+        @Nullable Holder<Biome> forcedTargetBiome,
+        @Nullable List<BlockReplacementRule> postProcessRules) {
+
+        return new ChunkCopyJob(
+            null,
+            template,
+            template.pos(),
+            targetLevel,
+            targetChunkPos,
+            forcedTargetBiome,
+            postProcessRules
+        );
+    }
+
     private ChunkCopyService() {
         // Utility class
     }
 
+    /**
+     * Holds back chunk resyncs until the matching {@link #endResyncBatch()}, so a group of copies
+     * (e.g. structure completion) is sent to clients in one pass after the last chunk is done,
+     * with each chunk packet built only once. Batches may nest.
+     */
+    public static void beginResyncBatch() {
+        resyncBatchDepth++;
+    }
+
+    /**
+     * Closes a batch opened with {@link #beginResyncBatch()} and, for the outermost batch, sends
+     * every chunk copied while it was open.
+     */
+    public static void endResyncBatch() {
+        if (resyncBatchDepth == 0 || --resyncBatchDepth > 0) {
+            return;
+        }
+
+        Map<ChunkPos, PendingResync> pending = new LinkedHashMap<>(DEFERRED_RESYNCS);
+        DEFERRED_RESYNCS.clear();
+        pending.forEach((chunkPos, resync) -> forceResyncChunk(resync.level(), chunkPos, resync.changes()));
+        if (!pending.isEmpty()) {
+            BrightbronzeHorizons.LOGGER.debug("Resynced {} chunks in one batch", pending.size());
+        }
+    }
+
+    private record PendingResync(ServerLevel level, SectionChangeSet changes) {
+    }
+
     public static final class ChunkCopyJob {
+        /** Exactly one of sourceLevel and template is set. */
+        @Nullable
         private final ServerLevel sourceLevel;
+        @Nullable
+        private final ChunkTemplate template;
         private final ChunkPos sourceChunkPos;
         private final ServerLevel targetLevel;
         private final ChunkPos targetChunkPos;
@@ -109,8 +168,16 @@ public class ChunkCopyService {
         private CompletableFuture<ChunkResult<ChunkAccess>> targetChunkFuture;
         private boolean chunksReady;
 
+        /** Decided once both chunks are loaded: transplant into untouched void, or merge block by block. */
+        @Nullable
+        private Boolean transplant;
+
+        /** Everything this job changed in the target chunk, for the resync. */
+        private final SectionChangeSet changes = new SectionChangeSet();
+
         private ChunkCopyJob(
-            ServerLevel sourceLevel,
+            @Nullable ServerLevel sourceLevel,
+            @Nullable ChunkTemplate template,
             ChunkPos sourceChunkPos,
             ServerLevel targetLevel,
             ChunkPos targetChunkPos,
@@ -118,6 +185,7 @@ public class ChunkCopyService {
             @Nullable List<BlockReplacementRule> postProcessRules) {
 
             this.sourceLevel = sourceLevel;
+            this.template = template;
             this.sourceChunkPos = sourceChunkPos;
             this.targetLevel = targetLevel;
             this.targetChunkPos = targetChunkPos;
@@ -140,21 +208,23 @@ public class ChunkCopyService {
                     BrightbronzeHorizons.LOGGER.debug(
                         "Starting tick-bounded chunk copy {} from {} to {} at {}",
                         sourceChunkPos,
-                        sourceLevel.dimension().location(),
+                        sourceLevel != null ? sourceLevel.dimension().location() : "template",
                         targetLevel.dimension().location(),
                         targetChunkPos
                     );
 
-                    // Force-load both chunks for the duration of the job.
-                    sourceLevel.setChunkForced(sourceChunkPos.x, sourceChunkPos.z, true);
-                    targetLevel.setChunkForced(targetChunkPos.x, targetChunkPos.z, true);
-
-                    sourceChunkFuture = sourceLevel.getChunkSource().getChunkFuture(
-                        sourceChunkPos.x,
-                        sourceChunkPos.z,
-                        ChunkStatus.FULL,
-                        true
-                    );
+                    // Retain both chunks for the duration of the job with short-lived tickets.
+                    // Unlike setChunkForced, these are never saved and expire on their own.
+                    retainChunks();
+
+                    if (sourceLevel != null) {
+                        sourceChunkFuture = sourceLevel.getChunkSource().getChunkFuture(
+                            sourceChunkPos.x,
+                            sourceChunkPos.z,
+                            ChunkStatus.FULL,
+                            true
+                        );
+                    }
                     targetChunkFuture = targetLevel.getChunkSource().getChunkFuture(
                         targetChunkPos.x,
                         targetChunkPos.z,
@@ -163,22 +233,29 @@ public class ChunkCopyService {
                     );
                 }
 
+                // Refresh the ticket timeouts while the job is alive.
+                retainChunks();
+
                 if (!chunksReady) {
-                    if (sourceChunkFuture == null || targetChunkFuture == null) {
+                    if ((sourceLevel != null && sourceChunkFuture == null) || targetChunkFuture == null) {
                         markFinished(false);
                         return new Result(true, false);
                     }
 
-                    if (!sourceChunkFuture.isDone() || !targetChunkFuture.isDone()) {
+                    if ((sourceChunkFuture != null && !sourceChunkFuture.isDone()) || !targetChunkFuture.isDone()) {
                         return new Result(false, false);
                     }
 
-                    ChunkResult<ChunkAccess> sourceReady =
-                        sourceChunkFuture.getNow(GenerationChunkHolder.UNLOADED_CHUNK);
+                    boolean sourceOk = true;
+                    if (sourceChunkFuture != null) {
+                        ChunkResult<ChunkAccess> sourceReady =
+                            sourceChunkFuture.getNow(GenerationChunkHolder.UNLOADED_CHUNK);
+                        sourceOk = sourceReady != null && sourceReady.isSuccess();
+                    }
                     ChunkResult<ChunkAccess> targetReady =
                         targetChunkFuture.getNow(GenerationChunkHolder.UNLOADED_CHUNK);
 
-                    if (sourceReady == null || targetReady == null || !sourceReady.isSuccess() || !targetReady.isSuccess()) {
+                    if (!sourceOk || targetReady == null || !targetReady.isSuccess()) {
                         BrightbronzeHorizons.LOGGER.warn("Chunk copy aborted: source/target chunk failed to load");
                         markFinished(false);
                         return new Result(true, false);
@@ -187,14 +264,25 @@ public class ChunkCopyService {
                     chunksReady = true;
                 }
 
+                if (transplant == null) {
+                    transplant = ChunkTransplanter.canTransplant(targetLevel, targetLevel.getChunk(targetChunkPos.x, targetChunkPos.z));
+                }
+                if (transplant) {
+                    return transplantAndFinish();
+                }
+
                 int boundedLayers = Math.max(1, layersPerTick);
                 int toYExclusive = Math.min(nextY + boundedLayers, maxY + 1);
 
                 // Ensure chunk access stays hot.
-                sourceLevel.getChunk(sourceChunkPos.x, sourceChunkPos.z);
                 targetLevel.getChunk(targetChunkPos.x, targetChunkPos.z);
 
-                copyBlocks(sourceLevel, sourceChunkPos, targetLevel, targetChunkPos, nextY, toYExclusive);
+                if (template != null) {
+                    copyBlocks(template, targetLevel, targetChunkPos, nextY, toYExclusive, changes);
+                } else {
+                    sourceLevel.getChunk(sourceChunkPos.x, sourceChunkPos.z);
+                    copyBlocks(sourceLevel, sourceChunkPos, targetLevel, targetChunkPos, nextY, toYExclusive, changes);
+                }
                 nextY = toYExclusive;
 
                 if (nextY <= maxY) {
@@ -204,31 +292,26 @@ public class ChunkCopyService {
                 // Finalize.
                 LevelChunk targetChunk = targetLevel.getChunk(targetChunkPos.x, targetChunkPos.z);
 
-                copyEntities(sourceLevel, sourceChunkPos, targetLevel, targetChunkPos);
-
-                if (forcedTargetBiome != null) {
-                    applyUniformBiome(targetChunk, forcedTargetBiome);
+                if (template != null) {
+                    copyBlockEntities(template, targetLevel, targetChunkPos);
+                    copyEntities(template, targetLevel, targetChunkPos);
+                } else {
+                    copyBlockEntities(sourceLevel, sourceChunkPos, targetChunk);
+                    copyEntities(sourceLevel, sourceChunkPos, targetLevel, targetChunkPos);
+                    storeTemplate(sourceLevel, sourceChunkPos);
                 }
 
                 if (postProcessRules != null && !postProcessRules.isEmpty()) {
-                    ChunkPostProcessor.apply(targetLevel, targetChunkPos, postProcessRules);
+                    ChunkPostProcessor.apply(targetLevel, targetChunkPos, postProcessRules, changes);
                 }
 
-                Versioned.chunk().markUnsaved(targetChunk);
-
                 // Force full light update for the chunk.
                 for (int y = minY; y <= maxY; y += 16) {
                     BlockPos lightPos = new BlockPos(targetChunkPos.getMiddleBlockX(), y, targetChunkPos.getMiddleBlockZ());
                     targetLevel.getChunkSource().getLightEngine().checkBlock(lightPos);
                 }
 
-                // Save and resync.
-                targetLevel.getChunkSource().save(false);
-                forceResyncChunk(targetLevel, targetChunkPos);
-
-                BrightbronzeHorizons.LOGGER.debug("Finished tick-bounded chunk copy {} -> {}", sourceChunkPos, targetChunkPos);
-                markFinished(true);
-                return new Result(true, true);
+                return finish(targetChunk);
 
             } catch (Exception e) {
                 BrightbronzeHorizons.LOGGER.error("Tick-bounded chunk copy failed: {}", e.getMessage(), e);
@@ -237,21 +320,56 @@ public class ChunkCopyService {
             }
         }
 
+        /**
+         * Copies the whole chunk in one step by writing its sections directly. Only used when the
+         * target chunk is untouched void; replacement rules are applied during the write.
+         */
+        private Result transplantAndFinish() {
+            LevelChunk targetChunk = targetLevel.getChunk(targetChunkPos.x, targetChunkPos.z);
+
+            ChunkTemplate source = template;
+            if (source == null) {
+                source = ChunkTemplate.capture(sourceLevel, sourceLevel.getChunk(sourceChunkPos.x, sourceChunkPos.z));
+                storeTemplate(sourceLevel, source);
+            }
+
+            ChunkTransplanter.transplant(source, targetLevel, targetChunk, postProcessRules, changes);
+            copyEntities(source, targetLevel, targetChunkPos);
+            return finish(targetChunk);
+        }
+
+        private Result finish(LevelChunk targetChunk) {
+            if (forcedTargetBiome != null) {
+                applyUniformBiome(targetChunk, forcedTargetBiome, changes);
+            }
+
+            Versioned.chunk().markUnsaved(targetChunk);
+
+            // Save and resync.
+            targetLevel.getChunkSource().save(false);
+            forceResyncChunk(targetLevel, targetChunkPos, changes);
+
+            BrightbronzeHorizons.LOGGER.debug("Finished tick-bounded chunk copy {} -> {}", sourceChunkPos, targetChunkPos);
+            markFinished(true);
+            return new Result(true, true);
+        }
+
         private void markFinished(boolean success) {
             this.finished = true;
             this.success = success;
 
-            // Always release forced chunks.
-            try {
-                sourceLevel.setChunkForced(sourceChunkPos.x, sourceChunkPos.z, false);
-            } catch (Exception ignored) {
-                // ignore
+            // Always release retained chunks.
+            if (sourceLevel != null) {
+                releaseChunk(sourceLevel, sourceChunkPos);
             }
-            try {
-                targetLevel.setChunkForced(targetChunkPos.x, targetChunkPos.z, false);
-            } catch (Exception ignored) {
-                // ignore
+            releaseChunk(targetLevel, targetChunkPos);
+        }
+
+        private void retainChunks() {
+            if (sourceLevel != null) {
+                Versioned.chunkTickets().addCopyTicket(sourceLevel, sourceChunkPos);
             }
+            Versioned.chunkTickets().addCopyTicket(targetLevel, targetChunkPos);
         }
 
         public record Result(boolean done, boolean success) {
@@ -314,43 +432,62 @@ public class ChunkCopyService {
                 sourceChunkPos, sourceLevel.dimension().location(),
                 targetLevel.dimension().location(), targetChunkPos);
 
-        // Force-load both chunks
-        sourceLevel.setChunkForced(sourceChunkPos.x, sourceChunkPos.z, true);
-        targetLevel.setChunkForced(targetChunkPos.x, targetChunkPos.z, true);
+        // Retain both chunks with short-lived tickets
+        Versioned.chunkTickets().addCopyTicket(sourceLevel, sourceChunkPos);
+        Versioned.chunkTickets().addCopyTicket(targetLevel, targetChunkPos);
 
         try {
             // Get chunk access
             LevelChunk sourceChunk = sourceLevel.getChunk(sourceChunkPos.x, sourceChunkPos.z);
             LevelChunk targetChunk = targetLevel.getChunk(targetChunkPos.x, targetChunkPos.z);
 
-            // Copy blocks
             int minY = Versioned.level().getMinY(targetLevel);
             int maxY = Versioned.level().getMaxY(targetLevel);
-            int blocksCopied = copyBlocks(sourceLevel, sourceChunkPos, targetLevel, targetChunkPos, minY, maxY + 1);
-            
-            BrightbronzeHorizons.LOGGER.debug("Copied {} non-air blocks to chunk ({}, {})", 
-                blocksCopied, targetChunkPos.x, targetChunkPos.z);
+            boolean transplanted = ChunkTransplanter.canTransplant(targetLevel, targetChunk);
+            SectionChangeSet changes = new SectionChangeSet();
+
+            if (transplanted) {
+                // Untouched void target: write sections directly (replacement rules included).
+                ChunkTemplate template = ChunkTemplate.capture(sourceLevel, sourceChunk);
+                ChunkTransplanter.transplant(template, targetLevel, targetChunk, postProcessRules, changes);
+                copyEntities(template, targetLevel, targetChunkPos);
+                storeTemplate(sourceLevel, template);
+            } else {
+                // Copy blocks
+                int blocksCopied = copyBlocks(sourceLevel, sourceChunkPos, targetLevel, targetChunkPos, minY, maxY + 1, changes);
+
+                BrightbronzeHorizons.LOGGER.debug("Copied {} non-air blocks to chunk ({}, {})",
+                    blocksCopied, targetChunkPos.x, targetChunkPos.z);
 
-            // Copy entities (mobs, item frames, armor stands, etc.)
-            copyEntities(sourceLevel, sourceChunkPos, targetLevel, targetChunkPos);
+                // Block entity data, once all blocks (and so all target block entities) exist
+                copyBlockEntities(sourceLevel, sourceChunkPos, targetChunk);
+
+                // Copy entities (mobs, item frames, armor stands, etc.)
+                copyEntities(sourceLevel, sourceChunkPos, targetLevel, targetChunkPos);
+
+                // Optionally keep a compact copy so the source region file can be pruned later.
+                storeTemplate(sourceLevel, sourceChunkPos);
+            }
 
             // Ensure the target chunk biome matches the spawned biome (critical for Coal local-biome rule).
             if (forcedTargetBiome != null) {
-                applyUniformBiome(targetChunk, forcedTargetBiome);
+                applyUniformBiome(targetChunk, forcedTargetBiome, changes);
             }
 
             // Phase 9: post-processing (block replacements/stripping) after copy.
-            if (postProcessRules != null && !postProcessRules.isEmpty()) {
-                ChunkPostProcessor.apply(targetLevel, targetChunkPos, postProcessRules);
+            if (!transplanted && postProcessRules != null && !postProcessRules.isEmpty()) {
+                ChunkPostProcessor.apply(targetLevel, targetChunkPos, postProcessRules, changes);
             }
 
             // Mark target chunk as needing save and trigger updates
             Versioned.chunk().markUnsaved(targetChunk);
             
             // Force full light update for the chunk
-            for (int y = minY; y <= maxY; y += 16) {
-                BlockPos lightPos = new BlockPos(targetChunkPos.getMiddleBlockX(), y, targetChunkPos.getMiddleBlockZ());
-                targetLevel.getChunkSource().getLightEngine().checkBlock(lightPos);
+            if (!transplanted) {
+                for (int y = minY; y <= maxY; y += 16) {
+                    BlockPos lightPos = new BlockPos(targetChunkPos.getMiddleBlockX(), y, targetChunkPos.getMiddleBlockZ());
+                    targetLevel.getChunkSource().getLightEngine().checkBlock(lightPos);
+                }
             }
             
             // Force the chunk to be saved to disk immediately
@@ -358,7 +495,7 @@ public class ChunkCopyService {
             targetLevel.getChunkSource().save(false);
 
             // Force resync chunk to all connected players (helps for chunk spawner use case)
-            forceResyncChunk(targetLevel, targetChunkPos);
+            forceResyncChunk(targetLevel, targetChunkPos, changes);
 
             BrightbronzeHorizons.LOGGER.debug("Successfully copied chunk {} -> {}", sourceChunkPos, targetChunkPos);
             return true;
@@ -368,21 +505,77 @@ public class ChunkCopyService {
             return false;
 
         } finally {
-            // Release force-loaded chunks
-            sourceLevel.setChunkForced(sourceChunkPos.x, sourceChunkPos.z, false);
-            targetLevel.setChunkForced(targetChunkPos.x, targetChunkPos.z, false);
+            // Release retained chunks
+            releaseChunk(sourceLevel, sourceChunkPos);
+            releaseChunk(targetLevel, targetChunkPos);
         }
     }
 
-    private static void applyUniformBiome(LevelChunk targetChunk, Holder<Biome> biome) {
-        // Fill the chunk's biome container at quart resolution (4x4x4 per section).
-        BiomeResolver resolver = (x, y, z, sampler) -> biome;
-        targetChunk.fillBiomesFromNoise(resolver, Climate.empty());
-        Versioned.chunk().markUnsaved(targetChunk);
+    /**
+     * Copies a pre-baked template into a target chunk, synchronously.
+     * Same semantics as {@link #copyChunk(ServerLevel, ChunkPos, ServerLevel, ChunkPos, Holder, List)}.
+     */
+    public static boolean copyChunk(
+        ChunkTemplate template,
+        ServerLevel targetLevel,
+        ChunkPos targetChunkPos,
+        @Nullable Holder<Biome> forcedTargetBiome,
+        @Nullable List<BlockReplacementRule> postProcessRules) {
+
+        // Enough layers to finish in one tick once the target chunk is loaded.
+        int allLayers = Versioned.level().getMaxY(targetLevel) - Versioned.level().getMinY(targetLevel) + 1;
+
+        ChunkCopyJob job = createJob(template, targetLevel, targetChunkPos, forcedTargetBiome, postProcessRules);
+        ChunkCopyJob.Result result = job.tick(allLayers);
+        while (!result.done()) {
+            // Only waits if the target chunk is not loaded yet.
+            targetLevel.getChunk(targetChunkPos.x, targetChunkPos.z);
+            result = job.tick(allLayers);
+        }
+        return result.success();
+    }
+
+    /**
+     * Starts loading (or generating) a chunk in the background ahead of a copy.
+     * 
+     * <p>The chunk is held by a short-lived copy ticket, so a prefetch that is never
+     * followed by a copy simply expires instead of pinning the chunk.
+     * 
+     * @param level The level containing the chunk (usually a source dimension)
+     * @param chunkPos The chunk to prefetch
+     */
+    public static void prefetchChunk(ServerLevel level, ChunkPos chunkPos) {
+        try {
+            Versioned.chunkTickets().addCopyTicket(level, chunkPos);
+        } catch (Exception e) {
+            BrightbronzeHorizons.LOGGER.debug("Failed to prefetch chunk {}: {}", chunkPos, e.getMessage());
+        }
+    }
+
+    private static void releaseChunk(ServerLevel level, ChunkPos chunkPos) {
+        try {
+            Versioned.chunkTickets().removeCopyTicket(level, chunkPos);
+        } catch (Exception ignored) {
+            // Ticket expires on its own
+        }
+    }
+
+    /**
+     * Replaces every section's biome container with a single-value container of the given biome.
+     * Source dimensions are single-biome, so this is also an exact copy of the source biomes.
+     * Callers mark the chunk unsaved once the whole copy is done.
+     */
+    private static void applyUniformBiome(LevelChunk targetChunk, Holder<Biome> biome, SectionChangeSet changes) {
+        ServerLevel level = (ServerLevel) targetChunk.getLevel();
+        for (LevelChunkSection section : targetChunk.getSections()) {
+            ((LevelChunkSectionAccessor) section).setBiomes(Versioned.chunk().uniformBiomes(level, biome));
+        }
+        changes.markBiomes();
     }
 
     /**
      * Copies blocks from source chunk to target chunk within the specified Y range.
+     * Block entity data is applied afterwards by {@link #copyBlockEntities(ServerLevel, ChunkPos, LevelChunk)}.
      * 
      * @param sourceLevel The source level
      * @param sourceChunkPos The source chunk position
@@ -390,6 +583,7 @@ public class ChunkCopyService {
      * @param targetChunkPos The target chunk position
      * @param fromY The minimum Y level (inclusive)
      * @param toY The maximum Y level (exclusive)
+     * @param changes Receives every placed block
      * @return The number of non-air blocks copied
      */
     public static int copyBlocks(
@@ -398,7 +592,8 @@ public class ChunkCopyService {
             ServerLevel targetLevel,
             ChunkPos targetChunkPos,
             int fromY,
-            int toY) {
+            int toY,
+            SectionChangeSet changes) {
 
         int xOffset = targetChunkPos.getMinBlockX() - sourceChunkPos.getMinBlockX();
         int zOffset = targetChunkPos.getMinBlockZ() - sourceChunkPos.getMinBlockZ();
@@ -428,10 +623,8 @@ public class ChunkCopyService {
 
                     // Set the block with all update flags
                     targetLevel.setBlock(targetPos, sourceState, Block.UPDATE_ALL);
+                    changes.markBlock(targetPos);
                     blocksCopied++;
-
-                    // Copy block entity data if present
-                    copyBlockEntity(sourceLevel, sourcePos, targetLevel, targetPos);
                 }
             }
         }
@@ -440,137 +633,183 @@ public class ChunkCopyService {
     }
 
     /**
-     * Copies block entity data from source to target position.
-     * 
-     * <p>This handles containers (chests, barrels), spawners, signs, lecterns,
-     * and other blocks with persistent data. The block at target position must
-     * already be set before calling this method.
-     * 
-     * @param sourceLevel The source level
-     * @param sourcePos The source position (immutable copy needed)
-     * @param targetLevel The target level
-     * @param targetPos The target position (immutable copy needed)
+     * Copies blocks from a template into the target chunk within the specified Y range.
+     * Block entity data is applied afterwards by {@link #copyBlockEntities}.
+     *
+     * @return The number of non-air blocks copied
      */
-    private static void copyBlockEntity(
-            ServerLevel sourceLevel,
-            BlockPos sourcePos,
+    public static int copyBlocks(
+            ChunkTemplate template,
             ServerLevel targetLevel,
-            BlockPos targetPos) {
+            ChunkPos targetChunkPos,
+            int fromY,
+            int toY,
+            SectionChangeSet changes) {
 
-        BlockEntity sourceBlockEntity = sourceLevel.getBlockEntity(sourcePos);
-        if (sourceBlockEntity == null) {
-            return;
+        BlockPos.MutableBlockPos targetPos = new BlockPos.MutableBlockPos();
+        int blocksCopied = 0;
+
+        for (int y = fromY; y < toY; y++) {
+            if (template.isSectionEmpty(y)) {
+                continue;
+            }
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    BlockState sourceState = template.getBlockState(x, y, z);
+                    if (sourceState.isAir()) {
+                        continue;
+                    }
+
+                    if (sourceState.hasProperty(LeavesBlock.PERSISTENT)) {
+                        sourceState = sourceState.setValue(LeavesBlock.PERSISTENT, true);
+                    }
+
+                    targetPos.set(targetChunkPos.getMinBlockX() + x, y, targetChunkPos.getMinBlockZ() + z);
+                    targetLevel.setBlock(targetPos, sourceState, Block.UPDATE_ALL);
+                    changes.markBlock(targetPos);
+                    blocksCopied++;
+                }
+            }
         }
 
-        // Get the target block entity (created by setBlock if the block type has one)
-        BlockEntity targetBlockEntity = targetLevel.getBlockEntity(targetPos);
-        if (targetBlockEntity == null) {
+        return blocksCopied;
+    }
+
+    /**
+     * Loads a template's block entity data into the block entities created by {@link #copyBlocks}.
+     */
+    private static void copyBlockEntities(ChunkTemplate template, ServerLevel targetLevel, ChunkPos targetChunkPos) {
+        int xOffset = targetChunkPos.getMinBlockX() - template.pos().getMinBlockX();
+        int zOffset = targetChunkPos.getMinBlockZ() - template.pos().getMinBlockZ();
+
+        for (ChunkTemplate.BlockEntityEntry entry : template.blockEntities()) {
+            BlockPos targetPos = entry.pos().offset(xOffset, 0, zOffset);
+            BlockEntity targetBlockEntity = targetLevel.getBlockEntity(targetPos);
+            if (targetBlockEntity == null) {
+                continue;
+            }
+
+            try {
+                CompoundTag nbtData = entry.tag().copy();
+                nbtData.putInt("x", targetPos.getX());
+                nbtData.putInt("y", targetPos.getY());
+                nbtData.putInt("z", targetPos.getZ());
+                Versioned.entityCopy().loadBlockEntityData(targetBlockEntity, nbtData, targetLevel);
+            } catch (Exception e) {
+                BrightbronzeHorizons.LOGGER.warn("Failed to copy block entity at {}: {}", entry.pos(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Spawns a template's entities in the target chunk (see {@link EntityTransfer}).
+     */
+    private static void copyEntities(ChunkTemplate template, ServerLevel targetLevel, ChunkPos targetChunkPos) {
+        EntityTransfer.transfer(template.entities(), template.pos(), targetLevel, targetChunkPos);
+    }
+
+    /**
+     * Captures a copied source chunk into the template store, if live capture is enabled.
+     */
+    private static void storeTemplate(ServerLevel sourceLevel, ChunkPos sourceChunkPos) {
+        if (!SourceChunkTemplateStore.isCaptureEnabled()) {
+            return;
+        }
+        ResourceLocation biomeId = ModDimensions.getBiomeFromSourceDimension(sourceLevel.dimension());
+        if (biomeId == null) {
             return;
         }
 
         try {
-            // Save source block entity data with full metadata
-            CompoundTag nbtData = sourceBlockEntity.saveWithFullMetadata(sourceLevel.registryAccess());
-            
-            // Update position in NBT to match target position
-            nbtData.putInt("x", targetPos.getX());
-            nbtData.putInt("y", targetPos.getY());
-            nbtData.putInt("z", targetPos.getZ());
-            
-            // Load data into target block entity using version-specific API
-            Versioned.entityCopy().loadBlockEntityData(targetBlockEntity, nbtData, targetLevel);
-            
+            LevelChunk sourceChunk = sourceLevel.getChunk(sourceChunkPos.x, sourceChunkPos.z);
+            SourceChunkTemplateStore.put(sourceLevel.getServer(), biomeId, ChunkTemplate.capture(sourceLevel, sourceChunk));
         } catch (Exception e) {
-            BrightbronzeHorizons.LOGGER.warn("Failed to copy block entity at {}: {}", 
-                sourcePos, e.getMessage());
+            BrightbronzeHorizons.LOGGER.warn("Failed to capture template for {}: {}", sourceChunkPos, e.getMessage());
         }
     }
 
     /**
-     * Copies all entities (mobs, item frames, armor stands, etc.) from the source
-     * chunk to the target chunk.
+     * Stores an already captured source chunk in the template store, if live capture is enabled.
+     */
+    private static void storeTemplate(ServerLevel sourceLevel, ChunkTemplate template) {
+        if (!SourceChunkTemplateStore.isCaptureEnabled()) {
+            return;
+        }
+        ResourceLocation biomeId = ModDimensions.getBiomeFromSourceDimension(sourceLevel.dimension());
+        if (biomeId != null) {
+            SourceChunkTemplateStore.put(sourceLevel.getServer(), biomeId, template);
+        }
+    }
+
+    /**
+     * Copies block entity data from a source chunk into the block entities that {@link #copyBlocks}
+     * created in the target chunk.
      * 
-     * <p>Players are not copied. Each entity is serialized from the source and
-     * recreated in the target dimension at the corresponding position.
+     * <p>This handles containers (chests, barrels), spawners, signs, lecterns,
+     * and other blocks with persistent data. Only the source chunk's block entities are visited,
+     * so the cost scales with the number of block entities rather than blocks. Run once all
+     * blocks are placed.
      * 
      * @param sourceLevel The source level
      * @param sourceChunkPos The source chunk position
-     * @param targetLevel The target level
-     * @param targetChunkPos The target chunk position
+     * @param targetChunk The target chunk, already filled with blocks
+     * @return The number of block entities copied
      */
-    private static void copyEntities(
-            ServerLevel sourceLevel,
-            ChunkPos sourceChunkPos,
-            ServerLevel targetLevel,
-            ChunkPos targetChunkPos) {
+    private static int copyBlockEntities(ServerLevel sourceLevel, ChunkPos sourceChunkPos, LevelChunk targetChunk) {
+        LevelChunk sourceChunk = sourceLevel.getChunk(sourceChunkPos.x, sourceChunkPos.z);
+        if (sourceChunk.getBlockEntities().isEmpty()) {
+            return 0;
+        }
 
+        ServerLevel targetLevel = (ServerLevel) targetChunk.getLevel();
+        ChunkPos targetChunkPos = targetChunk.getPos();
         int xOffset = targetChunkPos.getMinBlockX() - sourceChunkPos.getMinBlockX();
         int zOffset = targetChunkPos.getMinBlockZ() - sourceChunkPos.getMinBlockZ();
+        int copied = 0;
 
-        // Create AABB for the entire source chunk (all Y levels)
-        AABB chunkBounds = new AABB(
-            sourceChunkPos.getMinBlockX(),
-            Versioned.level().getMinY(sourceLevel),
-            sourceChunkPos.getMinBlockZ(),
-            sourceChunkPos.getMaxBlockX() + 1,
-            Versioned.level().getMaxY(sourceLevel) + 1,
-            sourceChunkPos.getMaxBlockZ() + 1
-        );
+        // Snapshot: loading data into the target never touches the source map, but be safe.
+        for (BlockEntity sourceBlockEntity : List.copyOf(sourceChunk.getBlockEntities().values())) {
+            BlockPos targetPos = sourceBlockEntity.getBlockPos().offset(xOffset, 0, zOffset);
 
-        // Get all entities in the chunk (excluding players)
-        List<Entity> entities = sourceLevel.getEntities(
-            (Entity) null, 
-            chunkBounds, 
-            entity -> !(entity instanceof Player)
-        );
-
-        if (entities.isEmpty()) {
-            return;
-        }
-
-        BrightbronzeHorizons.LOGGER.debug("Copying {} entities from chunk {} to {}", 
-            entities.size(), sourceChunkPos, targetChunkPos);
+            // Created by setBlock if the copied block has one (and no rule replaced it)
+            BlockEntity targetBlockEntity = targetChunk.getBlockEntity(targetPos);
+            if (targetBlockEntity == null || targetBlockEntity.getType() != sourceBlockEntity.getType()) {
+                continue;
+            }
 
-        for (Entity sourceEntity : entities) {
             try {
-                // Serialize entity using version-specific API
-                Optional<CompoundTag> nbtOpt = Versioned.entityCopy().serializeEntity(sourceEntity, sourceLevel);
-                if (nbtOpt.isEmpty()) {
-                    continue; // Entity doesn't want to be saved
-                }
-                CompoundTag nbtData = nbtOpt.get();
-
-                // Calculate new position
-                double newX = sourceEntity.getX() + xOffset;
-                double newY = sourceEntity.getY();
-                double newZ = sourceEntity.getZ() + zOffset;
-
-                // Update position in NBT - create new Pos list with updated coordinates
-                ListTag posList = new ListTag();
-                posList.add(DoubleTag.valueOf(newX));
-                posList.add(DoubleTag.valueOf(newY));
-                posList.add(DoubleTag.valueOf(newZ));
-                nbtData.put("Pos", posList);
-
-                // Remove UUID so a new one is generated (prevents duplicate UUID issues)
-                nbtData.remove("UUID");
-
-                // Create new entity using version-specific API
-                Optional<Entity> newEntityOpt = Versioned.entityCopy().deserializeEntity(nbtData, targetLevel);
-                
-                if (newEntityOpt.isPresent()) {
-                    Entity newEntity = newEntityOpt.get();
-                    newEntity.setPos(newX, newY, newZ);
-                    targetLevel.addFreshEntity(newEntity);
-                }
-
+                // No id or position: the target block entity already has both.
+                CompoundTag nbtData = sourceBlockEntity.saveWithoutMetadata(sourceLevel.registryAccess());
+                Versioned.entityCopy().loadBlockEntityData(targetBlockEntity, nbtData, targetLevel);
+                copied++;
             } catch (Exception e) {
-                BrightbronzeHorizons.LOGGER.warn("Failed to copy entity {} at {}: {}", 
-                    sourceEntity.getType().getDescriptionId(), 
-                    sourceEntity.position(), 
-                    e.getMessage());
+                BrightbronzeHorizons.LOGGER.warn("Failed to copy block entity at {}: {}",
+                    sourceBlockEntity.getBlockPos(), e.getMessage());
             }
         }
+        return copied;
+    }
+
+    /**
+     * Copies all entities (mobs, item frames, armor stands, etc.) from the source
+     * chunk to the target chunk.
+     * 
+     * <p>Players are not copied. Entities are serialized from the source chunk's entity
+     * sections now and recreated in the target dimension shortly after
+     * (see {@link EntityTransfer}).
+     * 
+     * @param sourceLevel The source level
+     * @param sourceChunkPos The source chunk position
+     * @param targetLevel The target level
+     * @param targetChunkPos The target chunk position
+     */
+    private static void copyEntities(
+            ServerLevel sourceLevel,
+            ChunkPos sourceChunkPos,
+            ServerLevel targetLevel,
+            ChunkPos targetChunkPos) {
+
+        EntityTransfer.transfer(EntityTransfer.capture(sourceLevel, sourceChunkPos), sourceChunkPos, targetLevel, targetChunkPos);
     }
 
     /**
@@ -599,14 +838,28 @@ public class ChunkCopyService {
      * individual block changes. Clients who load the chunk later, or clients who need a
      * full chunk refresh, won't see the changes without this explicit resync.
      * 
+     * <p>Only the recorded changes are sent (see {@link ChunkResync}). Inside a resync batch the
+     * chunk is only recorded and sent when the batch ends.
+     * 
      * @param level The server level containing the chunk
      * @param chunkPos The position of the chunk to resync
+     * @param changes What the copy changed in the chunk
      */
-    private static void forceResyncChunk(ServerLevel level, ChunkPos chunkPos) {
+    private static void forceResyncChunk(ServerLevel level, ChunkPos chunkPos, SectionChangeSet changes) {
+        if (resyncBatchDepth > 0) {
+            PendingResync pending = DEFERRED_RESYNCS.get(chunkPos);
+            if (pending != null) {
+                pending.changes().addAll(changes);
+            } else {
+                DEFERRED_RESYNCS.put(chunkPos, new PendingResync(level, changes));
+            }
+            return;
+        }
+
         try {
             // Cast ChunkMap to our mixin interface
             if (level.getChunkSource().chunkMap instanceof ControllableChunkMap controllable) {
-                controllable.brightbronze$forceResyncChunk(chunkPos);
+                controllable.brightbronze$resyncChanges(chunkPos, changes);
                 BrightbronzeHorizons.LOGGER.debug("Forced resync of chunk ({}, {})", chunkPos.x, chunkPos.z);
             } else {
                 BrightbronzeHorizons.LOGGER.warn(
@@ -1,5 +1,6 @@
 package red.gaius.brightbronze.world.chunk;
 
+import dev.architectury.event.events.common.LifecycleEvent;
 import dev.architectury.event.events.common.TickEvent;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
@@ -7,27 +8,30 @@ import net.minecraft.core.registries.Registries;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ChunkResult;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.sounds.SoundEvents;
-import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.biome.Biome;
-import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
 import net.minecraft.advancements.AdvancementHolder;
-import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.Nullable;
 import red.gaius.brightbronze.BrightbronzeHorizons;
 import red.gaius.brightbronze.config.BrightbronzeConfig;
+import red.gaius.brightbronze.registry.ModDimensions;
 import red.gaius.brightbronze.world.ChunkSpawnerTier;
 import red.gaius.brightbronze.world.PlayableAreaData;
+import red.gaius.brightbronze.world.dimension.SourceDimensionLifecycle;
 import red.gaius.brightbronze.world.dimension.SourceDimensionManager;
 import red.gaius.brightbronze.world.mob.ChunkSpawnMobEvent;
 import red.gaius.brightbronze.world.rules.BiomeRuleManager;
 import red.gaius.brightbronze.world.rules.BlockReplacementRule;
+import red.gaius.brightbronze.world.template.ChunkTemplate;
+import red.gaius.brightbronze.world.template.SourceChunkTemplateStore;
 import red.gaius.brightbronze.versioned.Versioned;
 
 import java.util.ArrayDeque;
@@ -39,6 +43,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Phase 10/11: central manager for chunk expansions.
@@ -74,6 +79,7 @@ public final class ChunkExpansionManager {
 
         // Process bounded work each server tick.
         TickEvent.SERVER_POST.register(ChunkExpansionManager::tick);
+        LifecycleEvent.SERVER_STOPPING.register(server -> SpawnEffectBatcher.clear());
     }
 
     public static EnqueueResult enqueue(ServerLevel overworld,
@@ -158,10 +164,36 @@ public final class ChunkExpansionManager {
 
         IN_FLIGHT_BY_CHUNK.put(key, request);
         QUEUE.addLast(request);
+
+        // Keep the source dimension loaded until this request finishes.
+        SourceDimensionLifecycle.acquire(biomeId);
+
+        // Start generating the source chunk while the request waits in the queue.
+        // Only if the source dimension is already loaded; creating it is left to startJob().
+        // Not needed with a pre-baked template.
+        ServerLevel loadedSource = server.getLevel(ModDimensions.getSourceDimensionKey(biomeId));
+        if (loadedSource != null && !SourceChunkTemplateStore.contains(server, biomeId, targetChunk)) {
+            ChunkCopyService.prefetchChunk(loadedSource, targetChunk);
+        }
+
         return EnqueueResult.createAccepted();
     }
 
+    /**
+     * @return true if no expansion is running or queued
+     */
+    public static boolean isIdle() {
+        return activeJob == null && QUEUE.isEmpty();
+    }
+
     private static void tick(MinecraftServer server) {
+        processJobs(server);
+
+        // All chunks revealed this tick share one bounded effect.
+        SpawnEffectBatcher.flush();
+    }
+
+    private static void processJobs(MinecraftServer server) {
         if (activeJob == null) {
             ExpansionRequest next = QUEUE.pollFirst();
             if (next == null) {
@@ -196,15 +228,30 @@ public final class ChunkExpansionManager {
             return null;
         }
 
-        ServerLevel sourceLevel = SourceDimensionManager.getOrCreateSourceDimension(overworld.getServer(), request.biomeId);
-        if (sourceLevel == null) {
-            return null;
-        }
-
         // Source coords match target coords per PRD.
         ChunkPos sourceChunkPos = request.targetChunk;
 
         var replacementRules = BiomeRuleManager.getReplacementRules(overworld.registryAccess(), request.biomeId);
+
+        // Pre-baked template first: no source dimension needed for the copy itself.
+        ChunkTemplate template = SourceChunkTemplateStore.get(overworld.getServer(), request.biomeId, sourceChunkPos);
+        if (template != null) {
+            ChunkCopyService.ChunkCopyJob job = ChunkCopyService.createJob(
+                template,
+                overworld,
+                request.targetChunk,
+                biomeHolderOpt.get(),
+                replacementRules
+            );
+            return new ActiveJob(request, job, null);
+        }
+
+        // The request's lease keeps the source dimension loaded; the copy job tickets the chunk.
+        ServerLevel sourceLevel = SourceDimensionManager.getOrCreateSourceDimension(overworld.getServer(), request.biomeId);
+        if (sourceLevel == null || sourceLevel.dimension() == Level.OVERWORLD) {
+            return null;
+        }
+
         ChunkCopyService.ChunkCopyJob job = ChunkCopyService.createJob(
             sourceLevel,
             sourceChunkPos,
@@ -251,6 +298,7 @@ public final class ChunkExpansionManager {
                                       @Nullable ResourceLocation biomeId,
                                       ExpansionResult expansionResult) {
         IN_FLIGHT_BY_CHUNK.remove(chunkKey(request.targetChunk));
+        SourceDimensionLifecycle.release(request.biomeId);
 
         if (!success) {
             // Only notify on failure for non-structure-triggered chunks
@@ -345,17 +393,7 @@ public final class ChunkExpansionManager {
     }
 
     private static void spawnSuccessEffects(ServerLevel level, ChunkPos chunkPos) {
-        int x = chunkPos.getMiddleBlockX();
-        int z = chunkPos.getMiddleBlockZ();
-        int y = level.getHeight(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, x, z);
-        double fx = x + 0.5;
-        double fy = Math.max(Versioned.level().getMinY(level) + 1, y + 1);
-        double fz = z + 0.5;
-
-        level.sendParticles(ParticleTypes.PORTAL, fx, fy, fz, 120, 4.0, 2.5, 4.0, 0.15);
-        level.sendParticles(ParticleTypes.CLOUD, fx, fy, fz, 40, 2.5, 0.8, 2.5, 0.01);
-
-        Versioned.sound().playSound(level, fx, fy, fz, SoundEvents.BEACON_ACTIVATE, SoundSource.BLOCKS, 0.9F, 1.2F);
+        SpawnEffectBatcher.queue(level, chunkPos);
     }
 
     private static void awardFirstChunkAdvancement(MinecraftServer server, @Nullable UUID playerId) {
@@ -408,9 +446,17 @@ public final class ChunkExpansionManager {
     private static final class ActiveJob {
         private final ExpansionRequest request;
         private final ChunkCopyService.ChunkCopyJob job;
-        private final ServerLevel sourceLevel;
-
-        private ActiveJob(ExpansionRequest request, ChunkCopyService.ChunkCopyJob job, ServerLevel sourceLevel) {
+        /** Null when copying from a template, until structure completion needs the source chunk. */
+        @Nullable
+        private ServerLevel sourceLevel;
+        /** Set only on the template path, while the source chunk is loaded for structure completion. */
+        @Nullable
+        private CompletableFuture<ChunkResult<ChunkAccess>> sourceChunk;
+        /** Set once the copy job has finished; completion may still wait on the source chunk. */
+        @Nullable
+        private ChunkCopyService.ChunkCopyJob.Result result;
+
+        private ActiveJob(ExpansionRequest request, ChunkCopyService.ChunkCopyJob job, @Nullable ServerLevel sourceLevel) {
             this.request = request;
             this.job = job;
             this.sourceLevel = sourceLevel;
@@ -418,25 +464,76 @@ public final class ChunkExpansionManager {
 
         /** @return true when complete (success or failure) */
         public boolean tick(MinecraftServer server) {
-            int layersPerTick = Math.max(1, BrightbronzeConfig.get().chunkCopyLayersPerTick);
-            ChunkCopyService.ChunkCopyJob.Result result = job.tick(layersPerTick);
-            if (!result.done()) {
+            if (result == null) {
+                int layersPerTick = Math.max(1, BrightbronzeConfig.get().chunkCopyLayersPerTick);
+                ChunkCopyService.ChunkCopyJob.Result tickResult = job.tick(layersPerTick);
+                if (!tickResult.done()) {
+                    return false;
+                }
+                result = tickResult;
+            }
+
+            if (!isSourceReady(server)) {
                 return false;
             }
 
+            try {
+                complete(server, result);
+            } finally {
+                if (sourceChunk != null) {
+                    Versioned.chunkTickets().removeCopyTicket(sourceLevel, request.targetChunk);
+                }
+            }
+            return true;
+        }
+
+        private boolean wantsStructureCompletion() {
+            return !request.structureTriggered && BrightbronzeConfig.get().enableStructureCompletion;
+        }
+
+        /**
+         * Structure starts live in the source dimension, even when the chunk came from a template.
+         * Template copies request the source chunk only once their blocks are in place, and wait
+         * for it instead of generating it on the server thread.
+         */
+        private boolean isSourceReady(MinecraftServer server) {
+            if (!result.success() || !wantsStructureCompletion()) {
+                return true;
+            }
+
+            if (sourceLevel == null) {
+                ServerLevel level = SourceDimensionManager.getOrCreateSourceDimension(server, request.biomeId);
+                if (level == null || level.dimension() == Level.OVERWORLD) {
+                    // No source dimension: the copy still succeeded, just without structure completion.
+                    return true;
+                }
+                sourceLevel = level;
+                Versioned.chunkTickets().addCopyTicket(sourceLevel, request.targetChunk);
+                sourceChunk = sourceLevel.getChunkSource().getChunkFuture(
+                    request.targetChunk.x, request.targetChunk.z, ChunkStatus.FULL, true);
+            }
+
+            if (sourceChunk != null && !sourceChunk.isDone()) {
+                Versioned.chunkTickets().addCopyTicket(sourceLevel, request.targetChunk);
+                return false;
+            }
+            return true;
+        }
+
+        private void complete(MinecraftServer server, ChunkCopyService.ChunkCopyJob.Result result) {
+
             if (!result.success()) {
                 finishRequest(request, server, false, Component.translatable("message.brightbronze_horizons.spawner.copy_failed"), null, ExpansionResult.failure());
-                return true;
+                return;
             }
 
             // Structure completion: only for non-structure-triggered chunks
             ExpansionResult expansionResult = ExpansionResult.simpleSuccess();
-            if (!request.structureTriggered && BrightbronzeConfig.get().enableStructureCompletion) {
+            if (wantsStructureCompletion()) {
                 expansionResult = handleStructureCompletion(server);
             }
 
             finishRequest(request, server, true, null, request.biomeId, expansionResult);
-            return true;
         }
 
         private ExpansionResult handleStructureCompletion(MinecraftServer server) {
@@ -447,6 +544,10 @@ public final class ChunkExpansionManager {
                     .map(req -> req.targetChunk)
                     .toList());
 
+            if (sourceLevel == null) {
+                return ExpansionResult.simpleSuccess();
+            }
+
             StructureCompletionService.StructureCompletionResult structureResult =
                     StructureCompletionService.collectStructureCompletionChunks(
                             sourceLevel,
@@ -485,54 +586,71 @@ public final class ChunkExpansionManager {
             List<BlockReplacementRule> replacementRules = BiomeRuleManager.getReplacementRules(overworld.registryAccess(), request.biomeId);
 
             // Copy ALL structure chunks SYNCHRONOUSLY (not queued)
-            // This ensures they all appear at once rather than gradually
+            // This ensures they all appear at once rather than gradually.
+            // With lazy reveal they are only committed here and copied when players come near.
+            boolean lazyReveal = LazyChunkReveal.isEnabled();
             int copiedCount = 0;
             int skippedCount = 0;
-            
-            for (ChunkPos structureChunk : structureResult.chunksToSpawn()) {
-                // Double-check: skip if already playable (race condition guard)
-                if (playableData.isChunkPlayable(structureChunk)) {
-                    skippedCount++;
-                    continue;
-                }
 
-                // Synchronous chunk copy
-                boolean success = ChunkCopyService.copyChunk(
-                        sourceLevel,
-                        structureChunk,
-                        overworld,
-                        structureChunk,
-                        biomeHolder,
-                        replacementRules
-                );
+            // Clients receive all structure chunks in one resync pass once the last one is copied
+            ChunkCopyService.beginResyncBatch();
+            try {
+                for (ChunkPos structureChunk : structureResult.chunksToSpawn()) {
+                    // Double-check: skip if already playable (race condition guard)
+                    if (playableData.isChunkPlayable(structureChunk)) {
+                        skippedCount++;
+                        continue;
+                    }
 
-                if (success) {
-                    // Register with playable area
-                    playableData.addChunk(structureChunk);
-                    playableData.recordSpawnedChunk(
-                            structureChunk,
-                            request.biomeId,
-                            request.tier.getName(),
-                            true, // structure-triggered
-                            request.targetChunk // triggering chunk
-                    );
+                    if (lazyReveal) {
+                        LazyChunkReveal.defer(playableData, structureChunk, request.biomeId, request.tier, request.targetChunk);
+                        copiedCount++;
+                        continue;
+                    }
+
+                    // Synchronous chunk copy, from a pre-baked template when there is one
+                    ChunkTemplate template = SourceChunkTemplateStore.get(server, request.biomeId, structureChunk);
+                    boolean success = template != null
+                            ? ChunkCopyService.copyChunk(template, overworld, structureChunk, biomeHolder, replacementRules)
+                            : ChunkCopyService.copyChunk(
+                                    sourceLevel,
+                                    structureChunk,
+                                    overworld,
+                                    structureChunk,
+                                    biomeHolder,
+                                    replacementRules
+                            );
+
+                    if (success) {
+                        // Register with playable area
+                        playableData.addChunk(structureChunk);
+                        playableData.recordSpawnedChunk(
+                                structureChunk,
+                                request.biomeId,
+                                request.tier.getName(),
+                                true, // structure-triggered
+                                request.targetChunk // triggering chunk
+                        );
                     
-                    // Visual effects for each structure chunk
-                    spawnSuccessEffects(overworld, structureChunk);
+                        // Visual effects for each structure chunk
+                        spawnSuccessEffects(overworld, structureChunk);
                     
-                    // Mob spawns for structure chunks too
-                    if (BrightbronzeConfig.get().enableChunkSpawnMobs) {
-                        ChunkSpawnMobEvent.fire(overworld, structureChunk, request.tier);
-                    }
+                        // Mob spawns for structure chunks too
+                        if (BrightbronzeConfig.get().enableChunkSpawnMobs) {
+                            ChunkSpawnMobEvent.fire(overworld, structureChunk, request.tier);
+                        }
                     
-                    copiedCount++;
-                } else {
-                    skippedCount++;
-                    BrightbronzeHorizons.LOGGER.warn(
-                            "Failed to copy structure chunk ({}, {})",
-                            structureChunk.x, structureChunk.z
-                    );
+                        copiedCount++;
+                    } else {
+                        skippedCount++;
+                        BrightbronzeHorizons.LOGGER.warn(
+                                "Failed to copy structure chunk ({}, {})",
+                                structureChunk.x, structureChunk.z
+                        );
+                    }
                 }
+            } finally {
+                ChunkCopyService.endResyncBatch();
             }
 
             // Add skipped chunks from structure detection (chunks that already existed)
@@ -8,6 +8,7 @@ import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
 import red.gaius.brightbronze.BrightbronzeHorizons;
 import red.gaius.brightbronze.versioned.Versioned;
 import red.gaius.brightbronze.world.rules.BlockReplacementRule;
@@ -25,6 +26,14 @@ public final class ChunkPostProcessor {
     }
 
     public static int apply(ServerLevel level, ChunkPos chunkPos, List<BlockReplacementRule> rules) {
+        return apply(level, chunkPos, rules, null);
+    }
+
+    /**
+     * Same as {@link #apply(ServerLevel, ChunkPos, List)}, recording every replaced block in
+     * {@code changes} when given.
+     */
+    public static int apply(ServerLevel level, ChunkPos chunkPos, List<BlockReplacementRule> rules, @Nullable SectionChangeSet changes) {
         if (rules == null || rules.isEmpty()) {
             return 0;
         }
@@ -44,22 +53,15 @@ public final class ChunkPostProcessor {
                         continue;
                     }
 
-                    BlockReplacementRule match = firstMatch(state, rules);
-                    if (match == null) {
-                        continue;
-                    }
-
-                    Block replacement = resolveReplacement(match.replacementBlockId());
-                    if (replacement == null) {
-                        continue;
-                    }
-
-                    BlockState replacementState = replacement.defaultBlockState();
+                    BlockState replacementState = replace(state, rules);
                     if (replacementState == state) {
                         continue;
                     }
 
                     level.setBlock(pos, replacementState, Block.UPDATE_ALL);
+                    if (changes != null) {
+                        changes.markBlock(pos);
+                    }
                     replaced++;
                 }
             }
@@ -72,6 +74,20 @@ public final class ChunkPostProcessor {
         return replaced;
     }
 
+    /**
+     * @return The state the first matching rule replaces {@code state} with, or {@code state}
+     *         itself if no rule applies
+     */
+    static BlockState replace(BlockState state, List<BlockReplacementRule> rules) {
+        BlockReplacementRule match = firstMatch(state, rules);
+        if (match == null) {
+            return state;
+        }
+
+        Block replacement = resolveReplacement(match.replacementBlockId());
+        return replacement != null ? replacement.defaultBlockState() : state;
+    }
+
     private static BlockReplacementRule firstMatch(BlockState state, List<BlockReplacementRule> rules) {
         ResourceLocation id = BuiltInRegistries.BLOCK.getKey(state.getBlock());
 
@@ -0,0 +1,145 @@
+package red.gaius.brightbronze.world.chunk;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.shorts.ShortIterator;
+import it.unimi.dsi.fastutil.shorts.ShortSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundChunksBiomesPacket;
+import net.minecraft.network.protocol.game.ClientboundLightUpdatePacket;
+import net.minecraft.network.protocol.game.ClientboundSectionBlocksUpdatePacket;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import red.gaius.brightbronze.versioned.Versioned;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Sends the result of a chunk copy to the players tracking the chunk, using the smallest update
+ * that covers a {@link SectionChangeSet}:
+ * <ul>
+ *   <li>Ticking chunks changed only through {@code setBlock}: vanilla already queued the block,
+ *       block entity and light updates, so only replaced biomes are sent</li>
+ *   <li>Most of the chunk's sections changed, or too many blocks for per-block updates to stay
+ *       smaller: one full chunk packet</li>
+ *   <li>Otherwise: one section update per changed section, plus block entity data, biomes and
+ *       a light update</li>
+ * </ul>
+ *
+ * <p>Light is only sent from the bottom of the world up to one section above the highest change;
+ * sections further up cannot have been affected. Called from {@code ChunkMapMixin}.
+ */
+public final class ChunkResync {
+
+    /**
+     * Above this many changed blocks a section update costs more than the encoded sections of a
+     * full chunk packet.
+     */
+    private static final int MAX_DELTA_BLOCKS = 2048;
+
+    private ChunkResync() {
+    }
+
+    /**
+     * @param vanillaBroadcast true if the chunk is ticking, so vanilla's chunk holder broadcasts
+     *                         block and light changes made through {@code setBlock} on its own
+     */
+    public static void send(ServerLevel level,
+                            LevelChunk chunk,
+                            List<ServerPlayer> players,
+                            SectionChangeSet changes,
+                            boolean vanillaBroadcast) {
+        if (players.isEmpty() || changes.isEmpty()) {
+            return;
+        }
+
+        if (vanillaBroadcast && !changes.hasDirectWrites()) {
+            if (changes.biomesChanged()) {
+                broadcast(players, ClientboundChunksBiomesPacket.forChunks(List.of(chunk)));
+            }
+            return;
+        }
+
+        BitSet lightSections = affectedLightSections(level.getLightEngine(), changes);
+
+        if (changes.blockCount() > MAX_DELTA_BLOCKS || changes.sectionCount() * 2 > nonEmptySectionCount(chunk)) {
+            Versioned.chunkSync().resendChunk(players, chunk, lightSections);
+            return;
+        }
+
+        List<Packet<?>> packets = new ArrayList<>();
+        ChunkPos chunkPos = chunk.getPos();
+        for (Int2ObjectMap.Entry<ShortSet> entry : changes.sections().int2ObjectEntrySet()) {
+            int sectionY = entry.getIntKey();
+            SectionPos sectionPos = SectionPos.of(chunkPos, sectionY);
+            LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+            packets.add(new ClientboundSectionBlocksUpdatePacket(sectionPos, entry.getValue(), section));
+
+            ShortIterator positions = entry.getValue().iterator();
+            while (positions.hasNext()) {
+                BlockPos pos = sectionPos.relativeToBlockPos(positions.nextShort());
+                BlockEntity blockEntity = chunk.getBlockEntity(pos);
+                if (blockEntity != null) {
+                    Packet<?> update = blockEntity.getUpdatePacket();
+                    if (update != null) {
+                        packets.add(update);
+                    }
+                }
+            }
+        }
+
+        if (!lightSections.isEmpty()) {
+            packets.add(new ClientboundLightUpdatePacket(chunkPos, level.getLightEngine(), lightSections, lightSections));
+        }
+        if (changes.biomesChanged()) {
+            packets.add(ClientboundChunksBiomesPacket.forChunks(List.of(chunk)));
+        }
+
+        for (Packet<?> packet : packets) {
+            broadcast(players, packet);
+        }
+    }
+
+    /**
+     * @return Light sections (indexed from the light engine's lowest section) that the changes
+     *         can have affected: everything below the highest change, since sky light shadows
+     *         reach down, and one section above it
+     */
+    private static BitSet affectedLightSections(LevelLightEngine lightEngine, SectionChangeSet changes) {
+        BitSet sections = new BitSet();
+        int maxSectionY = changes.maxSectionY();
+        if (maxSectionY == Integer.MIN_VALUE) {
+            return sections;
+        }
+
+        int toIndex = Math.min(maxSectionY + 1 - lightEngine.getMinLightSection(), lightEngine.getLightSectionCount() - 1);
+        if (toIndex >= 0) {
+            sections.set(0, toIndex + 1);
+        }
+        return sections;
+    }
+
+    private static int nonEmptySectionCount(LevelChunk chunk) {
+        int count = 0;
+        for (LevelChunkSection section : chunk.getSections()) {
+            if (!section.hasOnlyAir()) {
+                count++;
+            }
+        }
+        return Math.max(1, count);
+    }
+
+    private static void broadcast(List<ServerPlayer> players, Packet<?> packet) {
+        for (ServerPlayer player : players) {
+            player.connection.send(packet);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package red.gaius.brightbronze.world.chunk;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.ai.village.poi.PoiTypes;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.EntityBlock;
+import net.minecraft.world.level.block.LeavesBlock;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import org.jetbrains.annotations.Nullable;
+import red.gaius.brightbronze.BrightbronzeHorizons;
+import red.gaius.brightbronze.config.BrightbronzeConfig;
+import red.gaius.brightbronze.versioned.Versioned;
+import red.gaius.brightbronze.world.rules.BlockReplacementRule;
+import red.gaius.brightbronze.world.template.ChunkTemplate;
+
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fast path for spawning terrain into a target chunk that is still untouched void.
+ *
+ * <p>The regular copy places every block through {@link ServerLevel#setBlock}, which pays for
+ * neighbour updates, per-block light checks and block change packets. None of that is needed
+ * when nothing is in the chunk yet, so here the source states are written straight into the
+ * chunk's sections. Leaf persistence and replacement rules are resolved once per distinct
+ * state instead of per block; heightmaps, sky light sources, block entities and POIs are
+ * rebuilt afterwards. The result matches a block-by-block copy followed by
+ * {@link ChunkPostProcessor}.
+ */
+final class ChunkTransplanter {
+
+    private ChunkTransplanter() {
+    }
+
+    /**
+     * @return true if the target chunk is untouched void and transplanting is enabled
+     */
+    static boolean canTransplant(ServerLevel targetLevel, LevelChunk targetChunk) {
+        return BrightbronzeConfig.get().voidChunkTransplant
+            && targetChunk.getBlockEntities().isEmpty()
+            && ChunkCopyService.isEmptyChunk(targetLevel, targetChunk.getPos());
+    }
+
+    /**
+     * Writes a template's blocks and block entities into an empty target chunk.
+     * Entities and biomes are left to the caller. Written blocks are recorded in {@code changes}.
+     *
+     * @return The number of blocks written
+     */
+    static int transplant(
+        ChunkTemplate template,
+        ServerLevel targetLevel,
+        LevelChunk targetChunk,
+        @Nullable List<BlockReplacementRule> postProcessRules,
+        SectionChangeSet changes) {
+
+        ChunkPos targetChunkPos = targetChunk.getPos();
+        int minSectionY = Versioned.level().getMinY(targetLevel) >> 4;
+        LevelLightEngine lightEngine = targetLevel.getChunkSource().getLightEngine();
+
+        // Resolved once per distinct state: leaf persistence, then replacement rules.
+        Map<BlockState, BlockState> resolved = new IdentityHashMap<>();
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        LevelChunkSection[] sections = targetChunk.getSections();
+        int written = 0;
+
+        for (int index = 0; index < sections.length; index++) {
+            LevelChunkSection section = sections[index];
+            int sectionY = minSectionY + index;
+            int baseY = sectionY << 4;
+            if (template.isSectionEmpty(baseY) && section.hasOnlyAir()) {
+                continue;
+            }
+
+            boolean wasEmpty = section.hasOnlyAir();
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        BlockState existing = section.getBlockState(x, y, z);
+                        BlockState state = template.getBlockState(x, baseY + y, z);
+                        if (state.isAir()) {
+                            state = existing;
+                        }
+                        if (state.isAir()) {
+                            continue;
+                        }
+
+                        BlockState target = resolved.computeIfAbsent(state, candidate -> resolve(candidate, postProcessRules));
+                        if (target == existing) {
+                            continue;
+                        }
+
+                        section.setBlockState(x, y, z, target);
+                        written++;
+
+                        pos.set(targetChunkPos.getMinBlockX() + x, baseY + y, targetChunkPos.getMinBlockZ() + z);
+                        changes.markBlock(pos);
+                        if (PoiTypes.forState(target).isPresent()) {
+                            targetLevel.onBlockStateChange(pos.immutable(), existing, target);
+                        }
+                        if (target.getLightEmission() > 0) {
+                            lightEngine.checkBlock(pos);
+                        }
+                    }
+                }
+            }
+
+            if (wasEmpty != section.hasOnlyAir()) {
+                lightEngine.updateSectionStatus(SectionPos.of(targetChunkPos, sectionY), section.hasOnlyAir());
+            }
+        }
+
+        if (written == 0) {
+            return 0;
+        }
+        changes.markDirectWrites();
+
+        Set<Heightmap.Types> heightmapTypes = EnumSet.noneOf(Heightmap.Types.class);
+        for (Map.Entry<Heightmap.Types, Heightmap> entry : targetChunk.getHeightmaps()) {
+            heightmapTypes.add(entry.getKey());
+        }
+        Heightmap.primeHeightmaps(targetChunk, heightmapTypes);
+        targetChunk.initializeLightSources();
+
+        // Sky light used to reach the bottom of the void; re-check each column from its new surface.
+        for (int z = 0; z < 16; z++) {
+            for (int x = 0; x < 16; x++) {
+                int surfaceY = targetChunk.getHeight(Heightmap.Types.WORLD_SURFACE, x, z);
+                pos.set(targetChunkPos.getMinBlockX() + x, surfaceY, targetChunkPos.getMinBlockZ() + z);
+                lightEngine.checkBlock(pos);
+            }
+        }
+
+        loadBlockEntities(template, targetLevel, targetChunk);
+
+        BrightbronzeHorizons.LOGGER.debug("Transplanted {} blocks into void chunk {}", written, targetChunkPos);
+        return written;
+    }
+
+    private static BlockState resolve(BlockState state, @Nullable List<BlockReplacementRule> postProcessRules) {
+        if (state.hasProperty(LeavesBlock.PERSISTENT)) {
+            state = state.setValue(LeavesBlock.PERSISTENT, true);
+        }
+        if (postProcessRules != null && !postProcessRules.isEmpty()) {
+            state = ChunkPostProcessor.replace(state, postProcessRules);
+        }
+        return state;
+    }
+
+    /**
+     * Creates the template's block entities in the target chunk, skipping any whose block was
+     * replaced by a rule.
+     */
+    private static void loadBlockEntities(ChunkTemplate template, ServerLevel targetLevel, LevelChunk targetChunk) {
+        ChunkPos targetChunkPos = targetChunk.getPos();
+        int xOffset = targetChunkPos.getMinBlockX() - template.pos().getMinBlockX();
+        int zOffset = targetChunkPos.getMinBlockZ() - template.pos().getMinBlockZ();
+
+        for (ChunkTemplate.BlockEntityEntry entry : template.blockEntities()) {
+            BlockPos targetPos = entry.pos().offset(xOffset, 0, zOffset);
+            BlockState state = targetChunk.getBlockState(targetPos);
+            if (!(state.getBlock() instanceof EntityBlock entityBlock)) {
+                continue;
+            }
+
+            try {
+                BlockEntity blockEntity = entityBlock.newBlockEntity(targetPos, state);
+                if (blockEntity == null) {
+                    continue;
+                }
+                targetChunk.addAndRegisterBlockEntity(blockEntity);
+
+                CompoundTag nbtData = entry.tag().copy();
+                nbtData.putInt("x", targetPos.getX());
+                nbtData.putInt("y", targetPos.getY());
+                nbtData.putInt("z", targetPos.getZ());
+                Versioned.entityCopy().loadBlockEntityData(blockEntity, nbtData, targetLevel);
+            } catch (Exception e) {
+                BrightbronzeHorizons.LOGGER.warn("Failed to transplant block entity at {}: {}", entry.pos(), e.getMessage());
+            }
+        }
+    }
+}
@@ -24,4 +24,14 @@ public interface ControllableChunkMap {
      * @param chunkPos The position of the chunk to resync
      */
     void brightbronze$forceResyncChunk(ChunkPos chunkPos);
+
+    /**
+     * Sends only what a chunk copy changed to the players tracking the chunk: nothing beyond the
+     * biomes when vanilla already broadcasts the block changes, otherwise section updates or a
+     * full chunk packet (see {@link ChunkResync}).
+     * 
+     * @param chunkPos The position of the chunk to resync
+     * @param changes What the copy changed
+     */
+    void brightbronze$resyncChanges(ChunkPos chunkPos, SectionChangeSet changes);
 }
@@ -0,0 +1,119 @@
+package red.gaius.brightbronze.world.chunk;
+
+import dev.architectury.event.events.common.TickEvent;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import red.gaius.brightbronze.config.BrightbronzeConfig;
+import red.gaius.brightbronze.world.template.ChunkTemplate;
+
+import java.util.List;
+
+/**
+ * Lazy entity materialization for copied overworld chunks.
+ *
+ * <p>With {@code lazyEntityMaterialization} on, the entities of a copied chunk are not created
+ * right away but stored in {@link DormantEntityData}. They are created once a player comes within
+ * {@code entityMaterializationDistance} blocks of the chunk, at most
+ * {@code entityMaterializationsPerTick} per tick. A large expansion far from any player therefore
+ * adds no entity ticking and no mob cap pressure until someone goes there.
+ *
+ * <p>At most {@code maxDormantEntities} entities are held back at once; copies past that create
+ * their entities right away. Stored entities are still materialized after the option is turned
+ * off.
+ */
+public final class DormantEntities {
+
+    private static boolean tickHookRegistered;
+
+    private DormantEntities() {
+    }
+
+    public static void init() {
+        if (tickHookRegistered) {
+            return;
+        }
+        tickHookRegistered = true;
+
+        TickEvent.SERVER_POST.register(DormantEntities::tick);
+    }
+
+    /**
+     * Stores relocated entities for later instead of creating them, if lazy materialization
+     * applies to the chunk.
+     *
+     * @return true if the entities were stored; false if the caller should create them now
+     */
+    static boolean store(ServerLevel level, ChunkPos chunkPos, List<ChunkTemplate.EntityEntry> relocated) {
+        BrightbronzeConfig.Data config = BrightbronzeConfig.get();
+        if (!config.lazyEntityMaterialization || level.dimension() != Level.OVERWORLD) {
+            return false;
+        }
+
+        for (ServerPlayer player : level.players()) {
+            if (isNear(player, chunkPos, config.entityMaterializationDistance)) {
+                return false;
+            }
+        }
+
+        DormantEntityData data = DormantEntityData.get(level.getServer());
+        if (data.size() + relocated.size() > config.maxDormantEntities) {
+            // Over the cap: create them now rather than grow the saved data further.
+            return false;
+        }
+        data.add(chunkPos, relocated);
+        return true;
+    }
+
+    private static void tick(MinecraftServer server) {
+        ServerLevel overworld = server.getLevel(Level.OVERWORLD);
+        if (overworld == null || overworld.players().isEmpty()) {
+            return;
+        }
+
+        DormantEntityData data = DormantEntityData.get(server);
+        if (data.isEmpty()) {
+            return;
+        }
+
+        BrightbronzeConfig.Data config = BrightbronzeConfig.get();
+        int distance = config.entityMaterializationDistance;
+        int chunkRadius = (distance >> 4) + 1;
+        int budget = config.entityMaterializationsPerTick;
+
+        for (ServerPlayer player : overworld.players()) {
+            ChunkPos playerChunk = player.chunkPosition();
+            for (int dx = -chunkRadius; dx <= chunkRadius && budget > 0; dx++) {
+                for (int dz = -chunkRadius; dz <= chunkRadius && budget > 0; dz++) {
+                    ChunkPos chunkPos = new ChunkPos(playerChunk.x + dx, playerChunk.z + dz);
+                    long key = chunkPos.toLong();
+
+                    if (!data.has(key)
+                        || !isNear(player, chunkPos, distance)
+                        || !overworld.areEntitiesLoaded(key)) {
+                        continue;
+                    }
+
+                    List<ChunkTemplate.EntityEntry> taken = data.take(key, budget);
+                    EntityTransfer.spawn(overworld, taken);
+                    budget -= taken.size();
+                }
+            }
+            if (budget <= 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return true if the player is within {@code distance} blocks (horizontally) of any part of
+     *         the chunk
+     */
+    private static boolean isNear(ServerPlayer player, ChunkPos chunkPos, int distance) {
+        double dx = Math.max(0.0, Math.max(chunkPos.getMinBlockX() - player.getX(), player.getX() - (chunkPos.getMaxBlockX() + 1)));
+        double dz = Math.max(0.0, Math.max(chunkPos.getMinBlockZ() - player.getZ(), player.getZ() - (chunkPos.getMaxBlockZ() + 1)));
+        return dx * dx + dz * dz <= (double) distance * distance;
+    }
+}
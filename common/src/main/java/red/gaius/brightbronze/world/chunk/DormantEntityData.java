@@ -0,0 +1,183 @@
+package red.gaius.brightbronze.world.chunk;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.datafix.DataFixTypes;
+import net.minecraft.util.datafix.DataFixers;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.saveddata.SavedData;
+import red.gaius.brightbronze.BrightbronzeHorizons;
+import red.gaius.brightbronze.versioned.Versioned;
+import red.gaius.brightbronze.world.template.ChunkTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Overworld saved data holding the entities of copied chunks that have not been created yet
+ * (see {@link DormantEntities}).
+ *
+ * <p>Entries are kept per chunk, already relocated into the chunk and without UUIDs, so they can
+ * be created as they are. Each chunk records the data version its entity tags were written with;
+ * older tags are upgraded with the entity data fixers when the data is loaded. The total number
+ * of entries is capped by {@code maxDormantEntities}, which bounds both memory and the size of
+ * the file rewritten when the data changes.
+ */
+public class DormantEntityData extends SavedData {
+
+    private static final String DATA_NAME = "brightbronze_horizons_dormant_entities";
+
+    private record ChunkEntities(long chunk, int dataVersion, List<ChunkTemplate.EntityEntry> entities) {
+        static final Codec<ChunkEntities> CODEC = RecordCodecBuilder.create(instance ->
+            instance.group(
+                Codec.LONG.fieldOf("chunk").forGetter(ChunkEntities::chunk),
+                Codec.INT.optionalFieldOf("data_version").forGetter(chunk -> Optional.of(chunk.dataVersion())),
+                ChunkTemplate.EntityEntry.CODEC.listOf().fieldOf("entities").forGetter(ChunkEntities::entities)
+            ).apply(instance, (chunk, dataVersion, entities) ->
+                // Entries saved without a version were written by the running game.
+                new ChunkEntities(chunk, dataVersion.orElseGet(Versioned::dataVersion), entities))
+        );
+    }
+
+    /** Codec for DormantEntityData serialization */
+    public static final Codec<DormantEntityData> CODEC = ChunkEntities.CODEC.listOf()
+        .fieldOf("chunks")
+        .codec()
+        .xmap(DormantEntityData::new, DormantEntityData::chunkList);
+
+    /** Data name for saved data storage */
+    public static final String DATA_NAME_VALUE = DATA_NAME;
+
+    /** DataFixTypes for data storage */
+    public static final DataFixTypes DATA_FIX_TYPES = DataFixTypes.LEVEL;
+
+    private final Long2ObjectMap<List<ChunkTemplate.EntityEntry>> byChunk = new Long2ObjectOpenHashMap<>();
+
+    /** Total entries across all chunks. */
+    private int size;
+
+    /**
+     * Creates a new empty DormantEntityData.
+     */
+    public DormantEntityData() {
+    }
+
+    private DormantEntityData(List<ChunkEntities> chunks) {
+        for (ChunkEntities chunk : chunks) {
+            if (chunk.entities().isEmpty()) {
+                continue;
+            }
+            List<ChunkTemplate.EntityEntry> entities = new ArrayList<>(chunk.entities().size());
+            for (ChunkTemplate.EntityEntry entry : chunk.entities()) {
+                entities.add(upgrade(entry, chunk.dataVersion()));
+            }
+            byChunk.put(chunk.chunk(), entities);
+            size += entities.size();
+        }
+    }
+
+    /**
+     * Runs an entity tag written by an older game version through the entity data fixers.
+     */
+    private static ChunkTemplate.EntityEntry upgrade(ChunkTemplate.EntityEntry entry, int dataVersion) {
+        int currentVersion = Versioned.dataVersion();
+        if (dataVersion >= currentVersion) {
+            return entry;
+        }
+        CompoundTag fixed = DataFixTypes.ENTITY.update(DataFixers.getDataFixer(), entry.tag(), dataVersion, currentVersion);
+        return new ChunkTemplate.EntityEntry(entry.pos(), fixed);
+    }
+
+    /**
+     * Saves this data to NBT. Required by SavedData in MC 1.21.1.
+     * In MC 1.21.10, serialization is handled by the Codec via SavedDataType.
+     */
+    public CompoundTag save(CompoundTag compoundTag, HolderLookup.Provider provider) {
+        return CODEC.encodeStart(NbtOps.INSTANCE, this)
+            .resultOrPartial(error -> BrightbronzeHorizons.LOGGER.error("Failed to save DormantEntityData: {}", error))
+            .map(tag -> tag instanceof CompoundTag ct ? ct : compoundTag)
+            .orElse(compoundTag);
+    }
+
+    /**
+     * Gets the DormantEntityData for the given server.
+     */
+    public static DormantEntityData get(MinecraftServer server) {
+        ServerLevel overworld = server.getLevel(Level.OVERWORLD);
+        if (overworld == null) {
+            throw new IllegalStateException("Overworld not loaded");
+        }
+
+        return Versioned.savedData().getDormantEntityData(overworld.getDataStorage());
+    }
+
+    /**
+     * Adds entities to a chunk's dormant list.
+     */
+    public void add(ChunkPos pos, List<ChunkTemplate.EntityEntry> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        byChunk.computeIfAbsent(pos.toLong(), key -> new ArrayList<>()).addAll(entities);
+        size += entities.size();
+        setDirty();
+    }
+
+    /**
+     * @return true if the chunk has dormant entities
+     */
+    public boolean has(long chunkKey) {
+        return byChunk.containsKey(chunkKey);
+    }
+
+    /**
+     * Removes up to {@code max} of a chunk's dormant entities.
+     *
+     * @return The removed entries, oldest first (empty if the chunk has none)
+     */
+    public List<ChunkTemplate.EntityEntry> take(long chunkKey, int max) {
+        List<ChunkTemplate.EntityEntry> entities = byChunk.get(chunkKey);
+        if (entities == null || max <= 0) {
+            return List.of();
+        }
+
+        List<ChunkTemplate.EntityEntry> batch = entities.subList(0, Math.min(max, entities.size()));
+        List<ChunkTemplate.EntityEntry> taken = new ArrayList<>(batch);
+        batch.clear();
+        if (entities.isEmpty()) {
+            byChunk.remove(chunkKey);
+        }
+        size -= taken.size();
+        setDirty();
+        return taken;
+    }
+
+    /**
+     * @return Total number of dormant entities across all chunks
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return byChunk.isEmpty();
+    }
+
+    private List<ChunkEntities> chunkList() {
+        List<ChunkEntities> chunks = new ArrayList<>(byChunk.size());
+        int dataVersion = Versioned.dataVersion();
+        for (Long2ObjectMap.Entry<List<ChunkTemplate.EntityEntry>> entry : byChunk.long2ObjectEntrySet()) {
+            chunks.add(new ChunkEntities(entry.getLongKey(), dataVersion, List.copyOf(entry.getValue())));
+        }
+        return chunks;
+    }
+}
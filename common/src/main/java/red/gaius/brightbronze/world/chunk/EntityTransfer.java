@@ -0,0 +1,174 @@
+package red.gaius.brightbronze.world.chunk;
+
+import net.minecraft.Util;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.DoubleTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.entity.EntitySectionStorage;
+import net.minecraft.world.phys.Vec3;
+import red.gaius.brightbronze.BrightbronzeHorizons;
+import red.gaius.brightbronze.mixin.PersistentEntitySectionManagerAccessor;
+import red.gaius.brightbronze.mixin.ServerLevelEntityAccessor;
+import red.gaius.brightbronze.versioned.Versioned;
+import red.gaius.brightbronze.world.template.ChunkTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Moves the entities of a source chunk (or template) into a target chunk in three steps:
+ * <ol>
+ *   <li>{@link #capture}: on the server thread, read the chunk's entity sections and serialize
+ *       every root entity (passengers travel inside their vehicle's tag)</li>
+ *   <li>Off-thread: rewrite the positions into the target chunk and drop the UUIDs, so copies
+ *       never clash with the originals</li>
+ *   <li>Back on the server thread: create and add all entities of the chunk in one step</li>
+ * </ol>
+ *
+ * <p>The entities therefore appear a tick or so after the chunk's blocks, or later if
+ * {@link DormantEntities} holds them back until a player is near. Reading the section
+ * storage directly skips the bounding box query over the full height of the chunk, which was
+ * the main cost for dense chunks such as villages or mineshafts.
+ */
+public final class EntityTransfer {
+
+    private EntityTransfer() {
+    }
+
+    /**
+     * Serializes the entities stored in a loaded chunk. Players are skipped.
+     *
+     * @param level The level the chunk is loaded in
+     * @param chunkPos The chunk position
+     * @return One entry per root entity, with its absolute position
+     */
+    public static List<ChunkTemplate.EntityEntry> capture(ServerLevel level, ChunkPos chunkPos) {
+        List<ChunkTemplate.EntityEntry> entries = new ArrayList<>();
+        for (Entity entity : sectionEntities(level, chunkPos)) {
+            if (entity instanceof Player || entity.isPassenger()) {
+                continue;
+            }
+            try {
+                Optional<CompoundTag> tag = Versioned.entityCopy().serializeEntity(entity, level);
+                tag.ifPresent(nbt -> entries.add(new ChunkTemplate.EntityEntry(entity.position(), nbt)));
+            } catch (Exception e) {
+                BrightbronzeHorizons.LOGGER.warn("Failed to serialize entity {} at {}: {}",
+                    entity.getType().getDescriptionId(), entity.position(), e.getMessage());
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Recreates captured entities in a target chunk. The captured tags are not modified.
+     *
+     * @param entries Entities captured from the chunk at {@code fromChunkPos}
+     * @param fromChunkPos The chunk the entries were captured from
+     * @param targetLevel The target level
+     * @param targetChunkPos The target chunk position
+     */
+    static void transfer(List<ChunkTemplate.EntityEntry> entries,
+                         ChunkPos fromChunkPos,
+                         ServerLevel targetLevel,
+                         ChunkPos targetChunkPos) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        BrightbronzeHorizons.LOGGER.debug("Copying {} entities from chunk {} to {}",
+            entries.size(), fromChunkPos, targetChunkPos);
+
+        int xOffset = targetChunkPos.getMinBlockX() - fromChunkPos.getMinBlockX();
+        int zOffset = targetChunkPos.getMinBlockZ() - fromChunkPos.getMinBlockZ();
+
+        CompletableFuture
+            .supplyAsync(() -> relocate(entries, xOffset, zOffset), Util.backgroundExecutor())
+            .thenAcceptAsync(relocated -> {
+                if (!DormantEntities.store(targetLevel, targetChunkPos, relocated)) {
+                    spawn(targetLevel, relocated);
+                }
+            }, targetLevel.getServer())
+            .exceptionally(e -> {
+                BrightbronzeHorizons.LOGGER.warn("Failed to copy entities to chunk {}: {}", targetChunkPos, e.getMessage());
+                return null;
+            });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Entity> sectionEntities(ServerLevel level, ChunkPos chunkPos) {
+        EntitySectionStorage<Entity> storage =
+            ((PersistentEntitySectionManagerAccessor<Entity>) ((ServerLevelEntityAccessor) level).getEntityManager())
+                .getSectionStorage();
+
+        List<Entity> entities = new ArrayList<>();
+        storage.getExistingSectionsInChunk(chunkPos.toLong())
+            .forEach(section -> section.getEntities().forEach(entities::add));
+        return entities;
+    }
+
+    /**
+     * Copies the tags with positions moved into the target chunk and UUIDs removed. Runs off the
+     * server thread; only touches tag copies.
+     */
+    private static List<ChunkTemplate.EntityEntry> relocate(List<ChunkTemplate.EntityEntry> entries, int xOffset, int zOffset) {
+        List<ChunkTemplate.EntityEntry> relocated = new ArrayList<>(entries.size());
+        for (ChunkTemplate.EntityEntry entry : entries) {
+            Vec3 pos = entry.pos().add(xOffset, 0, zOffset);
+            CompoundTag tag = entry.tag().copy();
+            relocateTag(tag, pos);
+            relocated.add(new ChunkTemplate.EntityEntry(pos, tag));
+        }
+        return relocated;
+    }
+
+    /**
+     * Rewrites one entity tag and its passengers. Passengers are placed at their vehicle and
+     * snap to their seat once loaded.
+     */
+    private static void relocateTag(CompoundTag tag, Vec3 pos) {
+        ListTag posList = new ListTag();
+        posList.add(DoubleTag.valueOf(pos.x));
+        posList.add(DoubleTag.valueOf(pos.y));
+        posList.add(DoubleTag.valueOf(pos.z));
+        tag.put("Pos", posList);
+
+        // Remove UUID so a new one is generated (prevents duplicate UUID issues)
+        tag.remove("UUID");
+
+        if (tag.get("Passengers") instanceof ListTag passengers) {
+            for (Tag passenger : passengers) {
+                if (passenger instanceof CompoundTag passengerTag) {
+                    relocateTag(passengerTag, pos);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates all relocated entities, then adds them to the level together.
+     */
+    static void spawn(ServerLevel targetLevel, List<ChunkTemplate.EntityEntry> relocated) {
+        List<Entity> created = new ArrayList<>(relocated.size());
+        for (ChunkTemplate.EntityEntry entry : relocated) {
+            try {
+                Versioned.entityCopy().deserializeEntity(entry.tag(), targetLevel).ifPresent(entity -> {
+                    entity.setPos(entry.pos());
+                    created.add(entity);
+                });
+            } catch (Exception e) {
+                BrightbronzeHorizons.LOGGER.warn("Failed to copy entity at {}: {}", entry.pos(), e.getMessage());
+            }
+        }
+
+        for (Entity entity : created) {
+            targetLevel.addFreshEntityWithPassengers(entity);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package red.gaius.brightbronze.world.chunk;
+
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.TickEvent;
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ChunkResult;
+import net.minecraft.server.level.GenerationChunkHolder;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import org.jetbrains.annotations.Nullable;
+import red.gaius.brightbronze.BrightbronzeHorizons;
+import red.gaius.brightbronze.config.BrightbronzeConfig;
+import red.gaius.brightbronze.versioned.Versioned;
+import red.gaius.brightbronze.world.ChunkSpawnerTier;
+import red.gaius.brightbronze.world.PlayableAreaData;
+import red.gaius.brightbronze.world.dimension.SourceDimensionLifecycle;
+import red.gaius.brightbronze.world.dimension.SourceDimensionManager;
+import red.gaius.brightbronze.world.mob.ChunkSpawnMobEvent;
+import red.gaius.brightbronze.world.rules.BiomeRuleManager;
+import red.gaius.brightbronze.world.rules.BlockReplacementRule;
+import red.gaius.brightbronze.world.template.ChunkTemplate;
+import red.gaius.brightbronze.world.template.SourceChunkTemplateStore;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Demand-driven terrain copies for chunks revealed by structure completion.
+ *
+ * <p>With {@code lazyChunkReveal} on, structure completion adds its chunks to the playable area
+ * right away (with their spawn metadata) and marks them as pending in {@link PlayableAreaData},
+ * instead of copying all of them in one tick. A pending chunk is copied:
+ * <ul>
+ *   <li>just in time, once a player comes within view distance of it</li>
+ *   <li>in the background, one chunk at a time, while no expansion is running and the server
+ *       has spare tick time</li>
+ * </ul>
+ *
+ * <p>Copies from pre-baked templates run immediately. Otherwise the source chunk is requested from
+ * the biome's source dimension first and copied once generated, so the server thread never waits
+ * on generation. At most {@code lazyRevealCopiesPerTick} chunks are copied per tick. The
+ * reveal effects and scripted mob spawns play when the terrain appears.
+ *
+ * <p>Pending chunks survive restarts; the source dimensions regenerate the same terrain on demand.
+ */
+public final class LazyChunkReveal {
+
+    /** Source chunks generated ahead of their copy at the same time. */
+    private static final int MAX_PREPARING = 4;
+
+    /** Ticks between background copies for chunks nobody is near. */
+    private static final int IDLE_INTERVAL_TICKS = 20;
+
+    /** Background copies pause while the average tick takes longer than this. */
+    private static final long MAX_AVERAGE_TICK_NANOS = 40_000_000L;
+
+    /** A source chunk being generated. Holds a lease on its source dimension and a copy ticket. */
+    private record Preparing(ResourceLocation biomeId,
+                             ServerLevel level,
+                             CompletableFuture<ChunkResult<ChunkAccess>> chunk) {
+    }
+
+    private static final Map<ChunkPos, Preparing> PREPARING = new LinkedHashMap<>();
+
+    /** Chunks whose copy failed this session; retried after a restart. */
+    private static final Set<ChunkPos> FAILED = new HashSet<>();
+
+    private static int ticksUntilIdleReveal;
+    private static boolean tickHookRegistered;
+
+    private LazyChunkReveal() {
+    }
+
+    public static void init() {
+        if (tickHookRegistered) {
+            return;
+        }
+        tickHookRegistered = true;
+
+        TickEvent.SERVER_POST.register(LazyChunkReveal::tick);
+        LifecycleEvent.SERVER_STOPPING.register(server -> {
+            PREPARING.forEach(LazyChunkReveal::release);
+            PREPARING.clear();
+            FAILED.clear();
+        });
+    }
+
+    public static boolean isEnabled() {
+        return BrightbronzeConfig.get().lazyChunkReveal;
+    }
+
+    /**
+     * Commits a structure chunk to the playable area without copying it yet.
+     */
+    static void defer(PlayableAreaData data,
+                      ChunkPos chunkPos,
+                      ResourceLocation biomeId,
+                      ChunkSpawnerTier tier,
+                      ChunkPos triggeringChunk) {
+        data.addChunk(chunkPos);
+        data.recordSpawnedChunk(chunkPos, biomeId, tier.getName(), true, triggeringChunk);
+        data.markPendingReveal(chunkPos);
+    }
+
+    private static void tick(MinecraftServer server) {
+        PlayableAreaData data = PlayableAreaData.get(server);
+        if (data.getPendingReveals().isEmpty()) {
+            return;
+        }
+
+        ServerLevel overworld = server.getLevel(Level.OVERWORLD);
+        if (overworld == null) {
+            return;
+        }
+
+        int budget = Math.max(1, BrightbronzeConfig.get().lazyRevealCopiesPerTick);
+
+        // Copy chunks whose source chunk has finished generating.
+        Iterator<Map.Entry<ChunkPos, Preparing>> it = PREPARING.entrySet().iterator();
+        while (it.hasNext() && budget > 0) {
+            Map.Entry<ChunkPos, Preparing> entry = it.next();
+            Preparing preparing = entry.getValue();
+            if (!preparing.chunk().isDone()) {
+                Versioned.chunkTickets().addCopyTicket(preparing.level(), entry.getKey());
+                continue;
+            }
+
+            it.remove();
+            try {
+                if (preparing.chunk().getNow(GenerationChunkHolder.UNLOADED_CHUNK).isSuccess()) {
+                    reveal(server, overworld, data, entry.getKey(), preparing.level());
+                } else {
+                    fail(entry.getKey(), "source chunk failed to generate");
+                }
+            } finally {
+                release(entry.getKey(), preparing);
+            }
+            budget--;
+        }
+
+        // Chunks within view distance of a player, nearest first.
+        int viewDistance = server.getPlayerList().getViewDistance();
+        for (ChunkPos pos : nearestPending(data, overworld, viewDistance)) {
+            if (budget <= 0 || PREPARING.size() >= MAX_PREPARING) {
+                break;
+            }
+            if (start(server, overworld, data, pos)) {
+                budget--;
+            }
+        }
+
+        // Background copies when nothing else is going on.
+        if (--ticksUntilIdleReveal > 0 || budget <= 0 || !PREPARING.isEmpty()) {
+            return;
+        }
+        ticksUntilIdleReveal = IDLE_INTERVAL_TICKS;
+        if (!ChunkExpansionManager.isIdle() || server.getAverageTickTimeNanos() > MAX_AVERAGE_TICK_NANOS) {
+            return;
+        }
+        for (ChunkPos pos : data.getPendingReveals()) {
+            if (!FAILED.contains(pos)) {
+                start(server, overworld, data, pos);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Copies a pending chunk from its template, or starts generating its source chunk.
+     *
+     * @return true if the chunk was copied (or failed) right away
+     */
+    private static boolean start(MinecraftServer server, ServerLevel overworld, PlayableAreaData data, ChunkPos pos) {
+        PlayableAreaData.SpawnedChunkMeta meta = data.getSpawnedChunkMeta(pos);
+        if (meta == null) {
+            // Nothing recorded to copy from; leave the chunk as it is.
+            data.clearPendingReveal(pos);
+            return false;
+        }
+
+        if (SourceChunkTemplateStore.contains(server, meta.biome(), pos)) {
+            reveal(server, overworld, data, pos, null);
+            return true;
+        }
+
+        SourceDimensionLifecycle.acquire(meta.biome());
+        ServerLevel sourceLevel = SourceDimensionManager.getOrCreateSourceDimension(server, meta.biome());
+        if (sourceLevel == null || sourceLevel.dimension() == Level.OVERWORLD) {
+            SourceDimensionLifecycle.release(meta.biome());
+            fail(pos, "source dimension unavailable");
+            return true;
+        }
+
+        Versioned.chunkTickets().addCopyTicket(sourceLevel, pos);
+        PREPARING.put(pos, new Preparing(meta.biome(), sourceLevel,
+            sourceLevel.getChunkSource().getChunkFuture(pos.x, pos.z, ChunkStatus.FULL, true)));
+        return false;
+    }
+
+    private static void release(ChunkPos pos, Preparing preparing) {
+        Versioned.chunkTickets().removeCopyTicket(preparing.level(), pos);
+        SourceDimensionLifecycle.release(preparing.biomeId());
+    }
+
+    private static void reveal(MinecraftServer server,
+                               ServerLevel overworld,
+                               PlayableAreaData data,
+                               ChunkPos pos,
+                               @Nullable ServerLevel sourceLevel) {
+        PlayableAreaData.SpawnedChunkMeta meta = data.getSpawnedChunkMeta(pos);
+        if (meta == null || !data.getPendingReveals().contains(pos)) {
+            return;
+        }
+
+        var biomeRegistry = Versioned.registry().lookupRegistry(overworld.registryAccess(), Registries.BIOME);
+        Optional<Holder<Biome>> biomeHolder = Versioned.registry().getHolder(biomeRegistry, meta.biome());
+        if (biomeHolder.isEmpty()) {
+            fail(pos, "biome " + meta.biome() + " not found");
+            return;
+        }
+        List<BlockReplacementRule> replacementRules = BiomeRuleManager.getReplacementRules(overworld.registryAccess(), meta.biome());
+
+        ChunkTemplate template = SourceChunkTemplateStore.get(server, meta.biome(), pos);
+        boolean success;
+        if (template != null) {
+            success = ChunkCopyService.copyChunk(template, overworld, pos, biomeHolder.get(), replacementRules);
+        } else if (sourceLevel != null) {
+            success = ChunkCopyService.copyChunk(sourceLevel, pos, overworld, pos, biomeHolder.get(), replacementRules);
+        } else {
+            success = false;
+        }
+
+        if (!success) {
+            fail(pos, "copy failed");
+            return;
+        }
+
+        data.clearPendingReveal(pos);
+        SpawnEffectBatcher.queue(overworld, pos);
+
+        ChunkSpawnerTier tier = ChunkSpawnerTier.byName(meta.tier());
+        if (tier != null && BrightbronzeConfig.get().enableChunkSpawnMobs) {
+            ChunkSpawnMobEvent.fire(overworld, pos, tier);
+        }
+
+        BrightbronzeHorizons.LOGGER.debug("Revealed pending chunk ({}, {}) biome {}", pos.x, pos.z, meta.biome());
+    }
+
+    private static void fail(ChunkPos pos, String reason) {
+        if (FAILED.add(pos)) {
+            BrightbronzeHorizons.LOGGER.warn("Failed to reveal pending chunk ({}, {}): {}", pos.x, pos.z, reason);
+        }
+    }
+
+    /**
+     * @return Pending chunks within view distance of an overworld player, nearest first
+     */
+    private static List<ChunkPos> nearestPending(PlayableAreaData data, ServerLevel overworld, int viewDistance) {
+        Map<ChunkPos, Integer> distances = new LinkedHashMap<>();
+        for (ServerPlayer player : overworld.players()) {
+            ChunkPos playerChunk = player.chunkPosition();
+            for (ChunkPos pos : data.getPendingReveals()) {
+                if (FAILED.contains(pos) || PREPARING.containsKey(pos)) {
+                    continue;
+                }
+                int distance = playerChunk.getChessboardDistance(pos);
+                if (distance <= viewDistance) {
+                    distances.merge(pos, distance, Math::min);
+                }
+            }
+        }
+        return distances.entrySet().stream()
+            .sorted(Map.Entry.comparingByValue())
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+}
@@ -0,0 +1,101 @@
+package red.gaius.brightbronze.world.chunk;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+import it.unimi.dsi.fastutil.shorts.ShortSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+
+/**
+ * Records what a chunk copy changed in the target chunk, so the resync can send only that.
+ *
+ * <p>Block changes are kept per section as section-relative positions (the format of
+ * {@code ClientboundSectionBlocksUpdatePacket}). The set also notes whether the biomes were
+ * replaced and whether any block was written straight into a section, bypassing
+ * {@code setBlock} and with it vanilla's own block change broadcast.
+ */
+public final class SectionChangeSet {
+
+    private final Int2ObjectMap<ShortSet> changedBySection = new Int2ObjectOpenHashMap<>();
+    private int blockCount;
+    private boolean biomesChanged;
+    private boolean directWrites;
+
+    /**
+     * Records a changed block.
+     */
+    public void markBlock(BlockPos pos) {
+        ShortSet changed = changedBySection.computeIfAbsent(SectionPos.blockToSectionCoord(pos.getY()), y -> new ShortOpenHashSet());
+        if (changed.add(SectionPos.sectionRelativePos(pos))) {
+            blockCount++;
+        }
+    }
+
+    /**
+     * Records that blocks were written without {@code setBlock}, so clients have not been told
+     * about them at all.
+     */
+    public void markDirectWrites() {
+        directWrites = true;
+    }
+
+    /**
+     * Records that the chunk's biomes were replaced.
+     */
+    public void markBiomes() {
+        biomesChanged = true;
+    }
+
+    /**
+     * Adds everything recorded in another set to this one.
+     */
+    public void addAll(SectionChangeSet other) {
+        for (Int2ObjectMap.Entry<ShortSet> entry : other.changedBySection.int2ObjectEntrySet()) {
+            ShortSet changed = changedBySection.computeIfAbsent(entry.getIntKey(), y -> new ShortOpenHashSet());
+            int before = changed.size();
+            changed.addAll(entry.getValue());
+            blockCount += changed.size() - before;
+        }
+        biomesChanged |= other.biomesChanged;
+        directWrites |= other.directWrites;
+    }
+
+    /**
+     * @return Changed section-relative positions, by section Y
+     */
+    public Int2ObjectMap<ShortSet> sections() {
+        return changedBySection;
+    }
+
+    public int sectionCount() {
+        return changedBySection.size();
+    }
+
+    public int blockCount() {
+        return blockCount;
+    }
+
+    public boolean biomesChanged() {
+        return biomesChanged;
+    }
+
+    public boolean hasDirectWrites() {
+        return directWrites;
+    }
+
+    public boolean isEmpty() {
+        return changedBySection.isEmpty() && !biomesChanged;
+    }
+
+    /**
+     * @return The highest changed section Y, or {@link Integer#MIN_VALUE} if no block changed
+     */
+    public int maxSectionY() {
+        int max = Integer.MIN_VALUE;
+        for (int sectionY : changedBySection.keySet()) {
+            max = Math.max(max, sectionY);
+        }
+        return max;
+    }
+}
@@ -0,0 +1,125 @@
+package red.gaius.brightbronze.world.chunk;
+
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.sounds.SoundEvents;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.levelgen.Heightmap;
+import red.gaius.brightbronze.config.BrightbronzeConfig;
+import red.gaius.brightbronze.versioned.Versioned;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Collects the spawn effects of every chunk revealed in a tick and plays them as one bounded
+ * effect at the end of the tick.
+ *
+ * <p>Structure completion can reveal dozens of chunks at once, and playing the full effect for
+ * each (160 particles and a sound) floods nearby clients with packets. Here the particle count is
+ * split evenly across the batch within {@code spawnEffectParticlesPerTick}, no player is sent more
+ * than {@code spawnEffectParticlesPerPlayer} particles in a tick, and each player hears the sound
+ * at most once per batch. A single chunk spawn still gets the full effect.
+ */
+final class SpawnEffectBatcher {
+
+    /** Particles for one chunk when nothing else competes for the budget. */
+    private static final int FULL_EFFECT_PARTICLES = 160;
+
+    /** Smallest share per chunk, so every revealed chunk still shows something. */
+    private static final int MIN_EFFECT_PARTICLES = 8;
+
+    /** Vanilla only sends particles to players within this distance. */
+    private static final double PARTICLE_RANGE_SQR = 32.0 * 32.0;
+
+    /** The beacon sound at the volume used is audible within 16 blocks. */
+    private static final double SOUND_RANGE_SQR = 16.0 * 16.0;
+
+    private record Effect(ServerLevel level, double x, double y, double z) {
+    }
+
+    private static final List<Effect> PENDING = new ArrayList<>();
+
+    private SpawnEffectBatcher() {
+    }
+
+    /**
+     * Queues the spawn effect for a revealed chunk. Played by {@link #flush} at the end of the tick.
+     */
+    static void queue(ServerLevel level, ChunkPos chunkPos) {
+        int x = chunkPos.getMiddleBlockX();
+        int z = chunkPos.getMiddleBlockZ();
+        int y = level.getHeight(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, x, z);
+        PENDING.add(new Effect(level, x + 0.5, Math.max(Versioned.level().getMinY(level) + 1, y + 1), z + 0.5));
+    }
+
+    /**
+     * Plays all effects queued during this tick within the configured budgets.
+     */
+    static void flush() {
+        if (PENDING.isEmpty()) {
+            return;
+        }
+
+        BrightbronzeConfig.Data config = BrightbronzeConfig.get();
+        int globalRemaining = config.spawnEffectParticlesPerTick;
+        int perShare = Math.max(MIN_EFFECT_PARTICLES, Math.min(FULL_EFFECT_PARTICLES, globalRemaining / PENDING.size()));
+
+        Map<UUID, Integer> playerRemaining = new HashMap<>();
+        Set<UUID> heardSound = new HashSet<>();
+
+        for (Effect effect : PENDING) {
+            List<ServerPlayer> inRange = new ArrayList<>();
+            List<ServerPlayer> needSound = new ArrayList<>();
+            int particles = Math.min(perShare, globalRemaining);
+
+            for (ServerPlayer player : effect.level().players()) {
+                double distanceSqr = player.distanceToSqr(effect.x(), effect.y(), effect.z());
+                if (distanceSqr <= PARTICLE_RANGE_SQR) {
+                    inRange.add(player);
+                    particles = Math.min(particles,
+                        playerRemaining.getOrDefault(player.getUUID(), config.spawnEffectParticlesPerPlayer));
+                }
+                if (distanceSqr <= SOUND_RANGE_SQR && heardSound.add(player.getUUID())) {
+                    needSound.add(player);
+                }
+            }
+
+            if (!inRange.isEmpty() && particles > 0) {
+                // Same 3:1 mix as the full effect.
+                int portal = particles * 3 / 4;
+                int cloud = particles - portal;
+                effect.level().sendParticles(ParticleTypes.PORTAL, effect.x(), effect.y(), effect.z(), portal, 4.0, 2.5, 4.0, 0.15);
+                effect.level().sendParticles(ParticleTypes.CLOUD, effect.x(), effect.y(), effect.z(), cloud, 2.5, 0.8, 2.5, 0.01);
+
+                globalRemaining -= particles;
+                for (ServerPlayer player : inRange) {
+                    int remaining = playerRemaining.getOrDefault(player.getUUID(), config.spawnEffectParticlesPerPlayer);
+                    playerRemaining.put(player.getUUID(), remaining - particles);
+                }
+            }
+
+            // Only players who have not heard it yet this batch.
+            for (ServerPlayer player : needSound) {
+                Versioned.sound().playSoundTo(player, effect.x(), effect.y(), effect.z(),
+                    SoundEvents.BEACON_ACTIVATE, SoundSource.BLOCKS, 0.9F, 1.2F);
+            }
+        }
+
+        PENDING.clear();
+    }
+
+    /**
+     * Drops queued effects without playing them. Called when the server stops.
+     */
+    static void clear() {
+        PENDING.clear();
+    }
+}
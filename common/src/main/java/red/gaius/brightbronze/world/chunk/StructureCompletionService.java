@@ -12,6 +12,7 @@ import net.minecraft.world.level.levelgen.structure.Structure;
 import net.minecraft.world.level.levelgen.structure.StructureStart;
 import red.gaius.brightbronze.BrightbronzeHorizons;
 import red.gaius.brightbronze.config.BrightbronzeConfig;
+import red.gaius.brightbronze.versioned.Versioned;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -396,13 +397,17 @@ public final class StructureCompletionService {
     }
 
     /**
-     * Safely gets a chunk from the source level, generating it if needed.
+     * Safely gets a chunk from the source level, generating its structure data if needed.
      * Returns null if chunk cannot be obtained.
      */
     private static ChunkAccess getChunkSafely(ServerLevel level, ChunkPos pos) {
         try {
-            // Use FULL status to ensure structures are generated
-            return level.getChunk(pos.x, pos.z, ChunkStatus.FULL, true);
+            // Keep scanned chunks around briefly; most of them are copied right after the scan.
+            Versioned.chunkTickets().addCopyTicket(level, pos);
+
+            // Starts and references are all the scan reads; they are in place long before terrain,
+            // so the server thread never generates full chunks just to look at them.
+            return level.getChunk(pos.x, pos.z, ChunkStatus.STRUCTURE_REFERENCES, true);
         } catch (Exception e) {
             BrightbronzeHorizons.LOGGER.warn(
                     "Failed to get chunk {} for structure detection: {}",
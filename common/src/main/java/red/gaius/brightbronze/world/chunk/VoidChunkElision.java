@@ -0,0 +1,186 @@
+package red.gaius.brightbronze.world.chunk;
+
+import dev.architectury.event.events.common.LifecycleEvent;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import org.jetbrains.annotations.Nullable;
+import red.gaius.brightbronze.BrightbronzeHorizons;
+import red.gaius.brightbronze.config.BrightbronzeConfig;
+import red.gaius.brightbronze.versioned.Versioned;
+import red.gaius.brightbronze.world.PlayableAreaData;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps empty void chunks outside the playable area out of the overworld region files.
+ *
+ * <p>Every chunk a player can see is generated, and vanilla saves it even though the void
+ * generator left it as nothing but air. With {@code elideVoidChunks} enabled, {@code ChunkMapMixin}
+ * asks this class before each overworld chunk save and skips chunks that are outside the
+ * playable area and still completely empty.
+ *
+ * <p>When such a chunk is loaded again, the region file has nothing for it. Instead of running it
+ * through every generation step, it is read from a shared empty template: the serialized form of
+ * the first elided full chunk, with its coordinates changed and its light left out so the chunk
+ * is lit in place. Until a template exists (right after server start), missing chunks are
+ * generated by the void generator as usual.
+ *
+ * <p>Only chunks without a record in the region files are elided. A chunk that was read from disk
+ * or saved this session keeps being saved normally; skipping its save would leave the older record
+ * behind, and that record would be loaded again instead of the template. Chunks saved before
+ * elision was enabled therefore stay in the region files and load normally.
+ */
+public final class VoidChunkElision {
+
+    /** Serialized empty full chunk, position fields are rewritten per use. */
+    @Nullable
+    private static volatile CompoundTag template;
+
+    /** Overworld chunks known to have a record in the region files. Written from the IO threads. */
+    private static final Set<Long> STORED = ConcurrentHashMap.newKeySet();
+
+    private static boolean stopHookRegistered;
+
+    private VoidChunkElision() {
+    }
+
+    public static void init() {
+        if (stopHookRegistered) {
+            return;
+        }
+        stopHookRegistered = true;
+
+        LifecycleEvent.SERVER_STOPPING.register(server -> {
+            template = null;
+            STORED.clear();
+        });
+    }
+
+    /**
+     * Decides whether a chunk save can be skipped. Called on the server thread from
+     * {@code ChunkMap.save}; when this returns true, the chunk's unsaved flag has been cleared.
+     */
+    public static boolean shouldSkipSave(ServerLevel level, ChunkAccess chunk) {
+        if (!appliesTo(level)) {
+            return false;
+        }
+        long key = chunk.getPos().toLong();
+        if (STORED.contains(key)) {
+            return false;
+        }
+        if (!isEmptyVoid(chunk) || PlayableAreaData.get(level.getServer()).isChunkPlayable(chunk.getPos())) {
+            // Vanilla writes this one, so from now on it has a record to keep up to date.
+            STORED.add(key);
+            return false;
+        }
+
+        if (template == null && chunk instanceof LevelChunk levelChunk) {
+            captureTemplate(level, levelChunk);
+        }
+        Versioned.chunk().markSaved(chunk);
+        return true;
+    }
+
+    /**
+     * @return true if chunk reads of this level should go through {@link #orTemplate}. Called on
+     *         the server thread when the chunk load is scheduled.
+     */
+    public static boolean tracksReads(ServerLevel level) {
+        return appliesTo(level);
+    }
+
+    /**
+     * Decides whether a chunk that is missing from the region files may be rebuilt from the
+     * shared template. Called on the server thread when the chunk load is scheduled.
+     */
+    public static boolean canRebuild(ServerLevel level, ChunkPos pos) {
+        return template != null
+            && appliesTo(level)
+            && !PlayableAreaData.get(level.getServer()).isChunkPlayable(pos);
+    }
+
+    /**
+     * Fills in a chunk load result: stored data wins (and the chunk is remembered as stored),
+     * otherwise the shared template is placed at {@code pos} if {@code rebuild} allows it. Runs on
+     * the chunk IO threads.
+     */
+    public static Optional<CompoundTag> orTemplate(Optional<CompoundTag> stored, ChunkPos pos, boolean rebuild) {
+        if (stored.isPresent()) {
+            STORED.add(pos.toLong());
+            return stored;
+        }
+        if (!rebuild) {
+            return stored;
+        }
+
+        CompoundTag shared = template;
+        if (shared == null) {
+            return stored;
+        }
+
+        CompoundTag tag = shared.copy();
+        tag.putInt("xPos", pos.x);
+        tag.putInt("zPos", pos.z);
+        return Optional.of(tag);
+    }
+
+    private static boolean appliesTo(ServerLevel level) {
+        return BrightbronzeConfig.get().elideVoidChunks
+            && level.dimension() == Level.OVERWORLD
+            && Versioned.worldGen().isVoidChunkGenerator(level.getChunkSource().getGenerator());
+    }
+
+    private static boolean isEmptyVoid(ChunkAccess chunk) {
+        if (!chunk.getBlockEntitiesPos().isEmpty()) {
+            return false;
+        }
+        if (chunk instanceof ProtoChunk protoChunk && !protoChunk.getEntities().isEmpty()) {
+            return false;
+        }
+        for (LevelChunkSection section : chunk.getSections()) {
+            if (!section.hasOnlyAir()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void captureTemplate(ServerLevel level, LevelChunk chunk) {
+        try {
+            CompoundTag tag = Versioned.chunk().serializeChunk(level, chunk);
+
+            // Structure starts and references are positional; an empty void chunk needs none.
+            CompoundTag structures = new CompoundTag();
+            structures.put("starts", new CompoundTag());
+            structures.put("References", new CompoundTag());
+            tag.put("structures", structures);
+
+            // Light is whatever the first elided chunk's neighbours made it. Leave it out and let
+            // each rebuilt chunk be lit where it is.
+            if (tag.get("sections") instanceof ListTag sections) {
+                for (Tag section : sections) {
+                    if (section instanceof CompoundTag sectionTag) {
+                        sectionTag.remove("BlockLight");
+                        sectionTag.remove("SkyLight");
+                    }
+                }
+            }
+            tag.putBoolean("isLightOn", false);
+
+            template = tag;
+            BrightbronzeHorizons.LOGGER.debug("Captured empty void chunk template from {}", chunk.getPos());
+        } catch (Exception e) {
+            BrightbronzeHorizons.LOGGER.warn("Failed to capture empty void chunk template: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package red.gaius.brightbronze.world.chunk;
+
+import dev.architectury.event.events.common.LifecycleEvent;
+import net.minecraft.network.protocol.game.ClientboundLevelChunkPacketData;
+import net.minecraft.network.protocol.game.ClientboundLightUpdatePacketData;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import org.jetbrains.annotations.Nullable;
+import red.gaius.brightbronze.config.BrightbronzeConfig;
+import red.gaius.brightbronze.versioned.Versioned;
+import red.gaius.brightbronze.world.PlayableAreaData;
+
+import java.util.BitSet;
+
+/**
+ * Shares one encoded payload between all chunk packets for empty void chunks outside the
+ * playable area.
+ *
+ * <p>A player near the border of the playable area is sent dozens of these chunks, and each
+ * {@code ClientboundLevelChunkWithLightPacket} would otherwise serialize the same air-only
+ * sections and copy the same full-sky light arrays. The packet's block and light payloads are
+ * position independent, so the first one built is kept and reused; each packet only gets its own
+ * chunk coordinates.
+ *
+ * <p>A chunk qualifies when it is in the void overworld, neither it nor any of its eight neighbours
+ * is playable, and it and all eight neighbours are loaded and contain only air. The neighbour
+ * conditions keep block light and shadows from nearby blocks (including blocks players placed
+ * outside the playable area) out of the shared light data.
+ *
+ * <p>Only used on dedicated servers: an integrated server hands packet objects to its local client
+ * without encoding them, so their arrays must not be shared there.
+ */
+public final class VoidChunkPackets {
+
+    @Nullable
+    private static ClientboundLevelChunkPacketData sharedChunkData;
+    @Nullable
+    private static ClientboundLightUpdatePacketData sharedLightData;
+
+    /** Set while the packet for this position is being built on the server thread. */
+    @Nullable
+    private static ChunkPos pendingPos;
+
+    private static boolean stopHookRegistered;
+
+    private VoidChunkPackets() {
+    }
+
+    public static void init() {
+        if (stopHookRegistered) {
+            return;
+        }
+        stopHookRegistered = true;
+
+        LifecycleEvent.SERVER_STOPPING.register(server -> {
+            sharedChunkData = null;
+            sharedLightData = null;
+            pendingPos = null;
+        });
+    }
+
+    /**
+     * Returns the block payload for a chunk packet, shared if the chunk qualifies.
+     */
+    public static ClientboundLevelChunkPacketData chunkData(LevelChunk chunk) {
+        pendingPos = null;
+        if (!(chunk.getLevel() instanceof ServerLevel level) || !isShareable(level, chunk)) {
+            return new ClientboundLevelChunkPacketData(chunk);
+        }
+
+        if (sharedChunkData == null) {
+            sharedChunkData = new ClientboundLevelChunkPacketData(chunk);
+        }
+        pendingPos = chunk.getPos();
+        return sharedChunkData;
+    }
+
+    /**
+     * Returns the light payload for a chunk packet. Shared only for full-light payloads of the
+     * chunk whose block payload was just shared by {@link #chunkData}.
+     */
+    public static ClientboundLightUpdatePacketData lightData(
+        ChunkPos pos,
+        LevelLightEngine lightEngine,
+        @Nullable BitSet skyLight,
+        @Nullable BitSet blockLight) {
+
+        boolean shared = skyLight == null && blockLight == null && pos.equals(pendingPos);
+        pendingPos = null;
+        if (!shared) {
+            return new ClientboundLightUpdatePacketData(pos, lightEngine, skyLight, blockLight);
+        }
+
+        if (sharedLightData == null) {
+            sharedLightData = new ClientboundLightUpdatePacketData(pos, lightEngine, null, null);
+        }
+        return sharedLightData;
+    }
+
+    private static boolean isShareable(ServerLevel level, LevelChunk chunk) {
+        MinecraftServer server = level.getServer();
+        if (!BrightbronzeConfig.get().cacheVoidChunkPackets
+            || level.dimension() != Level.OVERWORLD
+            || !server.isDedicatedServer()
+            || !server.isSameThread()
+            || !Versioned.worldGen().isVoidChunkGenerator(level.getChunkSource().getGenerator())) {
+            return false;
+        }
+
+        if (!isAirOnly(chunk)) {
+            return false;
+        }
+
+        PlayableAreaData data = PlayableAreaData.get(server);
+        ChunkPos pos = chunk.getPos();
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                if (data.isChunkPlayable(new ChunkPos(pos.x + dx, pos.z + dz))) {
+                    return false;
+                }
+            }
+        }
+
+        // Light reaching in from blocks next door would end up in the shared payload.
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                if (dx == 0 && dz == 0) {
+                    continue;
+                }
+                LevelChunk neighbour = level.getChunkSource().getChunkNow(pos.x + dx, pos.z + dz);
+                if (neighbour == null || !isAirOnly(neighbour)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAirOnly(LevelChunk chunk) {
+        if (!chunk.getBlockEntities().isEmpty()) {
+            return false;
+        }
+        for (LevelChunkSection section : chunk.getSections()) {
+            if (!section.hasOnlyAir()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
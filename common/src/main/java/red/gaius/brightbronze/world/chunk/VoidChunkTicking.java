@@ -0,0 +1,56 @@
+package red.gaius.brightbronze.world.chunk;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import red.gaius.brightbronze.config.BrightbronzeConfig;
+import red.gaius.brightbronze.versioned.Versioned;
+import red.gaius.brightbronze.world.PlayableAreaData;
+
+/**
+ * Decides which overworld chunks can skip their per-chunk tick work.
+ *
+ * <p>Void chunks around the playable area stay loaded because players can see them, and vanilla
+ * still runs natural spawn attempts, weather checks (lightning, snow and ice) and random tick
+ * selection on each of them every tick. None of that can do anything in a chunk that contains
+ * only air, so {@code ServerLevelMixin} skips it for such chunks outside the playable area. Blocks
+ * that players build out into the void keep their chunk ticking as usual.
+ *
+ * <p>Scheduled block and fluid ticks are left alone: empty chunks have none, so they cost nothing,
+ * and a chunk that is being filled just before it joins the playable area must keep the ticks its
+ * copied blocks schedule.
+ */
+public final class VoidChunkTicking {
+
+    private VoidChunkTicking() {
+    }
+
+    /**
+     * @return true if the chunk is loaded, in the void overworld, outside the playable area and
+     *         contains only air
+     */
+    public static boolean isInert(ServerLevel level, ChunkPos pos) {
+        LevelChunk chunk = level.getChunkSource().getChunkNow(pos.x, pos.z);
+        return chunk != null && isInert(level, chunk);
+    }
+
+    /**
+     * @return true if the chunk is in the void overworld, outside the playable area and contains
+     *         only air
+     */
+    public static boolean isInert(ServerLevel level, LevelChunk chunk) {
+        if (!BrightbronzeConfig.get().skipVoidChunkTicks
+            || level.dimension() != Level.OVERWORLD
+            || !Versioned.worldGen().isVoidChunkGenerator(level.getChunkSource().getGenerator())) {
+            return false;
+        }
+        for (LevelChunkSection section : chunk.getSections()) {
+            if (!section.hasOnlyAir()) {
+                return false;
+            }
+        }
+        return !PlayableAreaData.get(level.getServer()).isChunkPlayable(chunk.getPos());
+    }
+}
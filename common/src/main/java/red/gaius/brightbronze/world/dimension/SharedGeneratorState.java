@@ -0,0 +1,72 @@
+package red.gaius.brightbronze.world.dimension;
+
+import net.minecraft.core.HolderGetter;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.chunk.ChunkGenerator;
+import net.minecraft.world.level.levelgen.NoiseGeneratorSettings;
+import net.minecraft.world.level.levelgen.RandomState;
+import net.minecraft.world.level.levelgen.synth.NormalNoise;
+import red.gaius.brightbronze.BrightbronzeHorizons;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Biome-independent world-generation state shared by all source dimensions.
+ *
+ * <p>Every source dimension runs the same noise settings (overworld, nether or end) with the
+ * same world seed; only the biome source differs. Vanilla still builds a fresh
+ * {@link RandomState} per level, which instantiates every noise, the noise router, the climate
+ * sampler and the surface system again. This cache hands out a single instance per
+ * (noise settings, seed) instead.
+ *
+ * <p>Sharing is safe because a {@link RandomState} is fully determined by its inputs and is
+ * already used concurrently by the world-gen worker threads of a single level. Per-level,
+ * biome-dependent state such as structure placement is not shared.
+ *
+ * <p>Chunk generators are also cached per biome so unloaded source dimensions can be reloaded
+ * without rebuilding them.
+ */
+public final class SharedGeneratorState {
+
+    /** Keyed by settings identity: source generators use the registered settings instances. */
+    private static final Map<NoiseGeneratorSettings, Map<Long, RandomState>> RANDOM_STATES = new IdentityHashMap<>();
+
+    private static final Map<ResourceLocation, ChunkGenerator> GENERATORS = new HashMap<>();
+
+    private SharedGeneratorState() {
+    }
+
+    /**
+     * Returns the shared random state for the given noise settings and seed, creating it once.
+     */
+    public static synchronized RandomState getRandomState(NoiseGeneratorSettings settings,
+                                                          HolderGetter<NormalNoise.NoiseParameters> noises,
+                                                          long seed) {
+        return RANDOM_STATES
+            .computeIfAbsent(settings, s -> new HashMap<>())
+            .computeIfAbsent(seed, s -> {
+                BrightbronzeHorizons.LOGGER.debug("Creating shared random state for source dimensions");
+                return RandomState.create(settings, noises, seed);
+            });
+    }
+
+    /**
+     * Returns the cached chunk generator for a biome, creating it with {@code factory} if needed.
+     * A null result from the factory is not cached.
+     */
+    public static synchronized ChunkGenerator getGenerator(ResourceLocation biomeId,
+                                                           Function<ResourceLocation, ChunkGenerator> factory) {
+        return GENERATORS.computeIfAbsent(biomeId, factory);
+    }
+
+    /**
+     * Drops all cached state. Called when the server stops (seed and registries may change).
+     */
+    public static synchronized void clear() {
+        RANDOM_STATES.clear();
+        GENERATORS.clear();
+    }
+}
@@ -0,0 +1,196 @@
+package red.gaius.brightbronze.world.dimension;
+
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.TickEvent;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import red.gaius.brightbronze.BrightbronzeHorizons;
+import red.gaius.brightbronze.config.BrightbronzeConfig;
+import red.gaius.brightbronze.registry.ModDimensions;
+import red.gaius.brightbronze.world.template.SourceChunkTemplateStore;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks usage of loaded source dimensions and unloads the ones that are not needed.
+ *
+ * <p>Every source dimension is a full {@link ServerLevel} with its own chunk map, entity
+ * manager and tick cost. Without a lifecycle they accumulate for the lifetime of the server.
+ * This manager:
+ * <ul>
+ *   <li>Records the last server tick each source dimension was used</li>
+ *   <li>Saves and unloads dimensions idle for longer than {@code sourceDimensionIdleUnloadSeconds}</li>
+ *   <li>Evicts the least recently used dimensions when more than {@code maxLoadedSourceDimensions}
+ *       are loaded</li>
+ * </ul>
+ *
+ * <p>Dimensions that are leased by pending expansion work, or that contain players, are never
+ * unloaded. Unloaded dimensions are recreated from their saved region files the next time
+ * {@link SourceDimensionManager#getOrCreateSourceDimension} is called.
+ */
+public final class SourceDimensionLifecycle {
+
+    /** How often (in ticks) idle and LRU checks run. */
+    private static final int SWEEP_INTERVAL_TICKS = 100;
+
+    /** Loaded source dimensions by biome, in access order (least recently used first). */
+    private static final LinkedHashMap<ResourceLocation, Long> LAST_USED_TICK = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Outstanding leases per biome (queued or running expansion work). */
+    private static final Map<ResourceLocation, Integer> LEASES = new HashMap<>();
+
+    private static int ticksUntilSweep = SWEEP_INTERVAL_TICKS;
+    private static boolean tickHookRegistered;
+
+    private SourceDimensionLifecycle() {
+    }
+
+    public static void init() {
+        if (tickHookRegistered) {
+            return;
+        }
+        tickHookRegistered = true;
+
+        TickEvent.SERVER_POST.register(SourceDimensionLifecycle::tick);
+        LifecycleEvent.SERVER_STOPPING.register(server -> {
+            LAST_USED_TICK.clear();
+            LEASES.clear();
+            SourceDimensionManager.clearCache();
+            SourceChunkTemplateStore.closeAll();
+        });
+    }
+
+    /**
+     * Records that the source dimension for a biome was just used (created, loaded or accessed).
+     */
+    public static void markUsed(MinecraftServer server, ResourceLocation biomeId) {
+        LAST_USED_TICK.put(biomeId, (long) server.getTickCount());
+    }
+
+    /**
+     * Prevents the source dimension for a biome from being unloaded until {@link #release} is called.
+     * Leases may be taken before the dimension exists.
+     */
+    public static void acquire(ResourceLocation biomeId) {
+        LEASES.merge(biomeId, 1, Integer::sum);
+    }
+
+    /**
+     * Releases a lease taken with {@link #acquire}.
+     */
+    public static void release(ResourceLocation biomeId) {
+        LEASES.computeIfPresent(biomeId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * @return true if queued or running work holds a lease on the biome's source dimension
+     */
+    public static boolean isLeased(ResourceLocation biomeId) {
+        return LEASES.containsKey(biomeId);
+    }
+
+    /**
+     * @return The number of source dimensions currently loaded
+     */
+    public static int getLoadedCount() {
+        return LAST_USED_TICK.size();
+    }
+
+    /**
+     * @return true if the source dimension for the biome is currently loaded
+     */
+    public static boolean isLoaded(ResourceLocation biomeId) {
+        return LAST_USED_TICK.containsKey(biomeId);
+    }
+
+    private static void tick(MinecraftServer server) {
+        if (--ticksUntilSweep > 0) {
+            return;
+        }
+        ticksUntilSweep = SWEEP_INTERVAL_TICKS;
+
+        sweep(server);
+    }
+
+    /**
+     * Unloads idle source dimensions and enforces the loaded-dimension cap.
+     */
+    public static void sweep(MinecraftServer server) {
+        if (LAST_USED_TICK.isEmpty()) {
+            return;
+        }
+
+        BrightbronzeConfig.Data config = BrightbronzeConfig.get();
+        long now = server.getTickCount();
+        long idleTicks = config.sourceDimensionIdleUnloadSeconds * 20L;
+
+        // Snapshot in LRU order; unloading mutates the map.
+        List<Map.Entry<ResourceLocation, Long>> entries = new ArrayList<>(LAST_USED_TICK.entrySet());
+
+        if (idleTicks > 0) {
+            for (Map.Entry<ResourceLocation, Long> entry : entries) {
+                if (now - entry.getValue() >= idleTicks) {
+                    tryUnload(server, entry.getKey(), "idle");
+                }
+            }
+        }
+
+        int cap = config.maxLoadedSourceDimensions;
+        if (cap > 0 && LAST_USED_TICK.size() > cap) {
+            Iterator<ResourceLocation> lru = new ArrayList<>(LAST_USED_TICK.keySet()).iterator();
+            while (LAST_USED_TICK.size() > cap && lru.hasNext()) {
+                tryUnload(server, lru.next(), "lru");
+            }
+        }
+    }
+
+    /**
+     * Unloads a source dimension so its files can be maintained, unless it is leased or has
+     * players. It is recreated from disk on its next use.
+     *
+     * @return true if the dimension is no longer loaded
+     */
+    public static boolean unloadForMaintenance(MinecraftServer server, ResourceLocation biomeId) {
+        return tryUnload(server, biomeId, "maintenance");
+    }
+
+    /**
+     * @return The biomes whose source dimensions are currently loaded, least recently used first
+     */
+    public static List<ResourceLocation> getLoadedBiomeIds() {
+        return new ArrayList<>(LAST_USED_TICK.keySet());
+    }
+
+    private static boolean tryUnload(MinecraftServer server, ResourceLocation biomeId, String reason) {
+        if (LEASES.containsKey(biomeId)) {
+            return false;
+        }
+
+        ResourceKey<Level> dimensionKey = ModDimensions.getSourceDimensionKey(biomeId);
+        ServerLevel level = server.getLevel(dimensionKey);
+        if (level == null) {
+            // Already gone (e.g. unloaded by another system); just forget it.
+            LAST_USED_TICK.remove(biomeId);
+            return true;
+        }
+
+        if (!level.players().isEmpty()) {
+            return false;
+        }
+
+        if (DimensionHelper.unloadDynamicDimension(server, dimensionKey)) {
+            LAST_USED_TICK.remove(biomeId);
+            BrightbronzeHorizons.LOGGER.debug("Unloaded source dimension for biome {} ({})", biomeId, reason);
+            return true;
+        }
+        return false;
+    }
+}
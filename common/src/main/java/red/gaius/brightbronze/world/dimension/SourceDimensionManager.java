@@ -14,10 +14,13 @@ import net.minecraft.world.level.chunk.ChunkGenerator;
 import net.minecraft.world.level.dimension.BuiltinDimensionTypes;
 import net.minecraft.world.level.levelgen.NoiseBasedChunkGenerator;
 import net.minecraft.world.level.levelgen.NoiseGeneratorSettings;
+import net.minecraft.world.level.storage.LevelResource;
 import red.gaius.brightbronze.BrightbronzeHorizons;
+import red.gaius.brightbronze.config.BrightbronzeConfig;
 import red.gaius.brightbronze.registry.ModDimensions;
 import red.gaius.brightbronze.versioned.Versioned;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -27,7 +30,8 @@ import java.util.HashSet;
  * Manages source dimensions for biome-coherent chunk generation.
  * 
  * <p>Source dimensions are created lazily on demand when a chunk spawner requests
- * terrain from a specific biome. Each biome gets its own dedicated dimension that
+ * terrain from a specific biome. Idle dimensions are unloaded by
+ * {@link SourceDimensionLifecycle} and transparently reloaded from disk here. Each biome gets its own dedicated dimension that
  * generates terrain using the overworld generator but forces all chunks to use
  * that single biome.
  * 
@@ -65,6 +69,7 @@ public class SourceDimensionManager {
         ServerLevel existingLevel = server.getLevel(dimensionKey);
         if (existingLevel != null) {
             activeDimensions.put(biomeId, dimensionKey);
+            SourceDimensionLifecycle.markUsed(server, biomeId);
             return existingLevel;
         }
 
@@ -78,7 +83,7 @@ public class SourceDimensionManager {
         }
 
         // Phase 11: cap source dimension creation to prevent runaway growth.
-        int cap = red.gaius.brightbronze.config.BrightbronzeConfig.get().maxSourceDimensions;
+        int cap = BrightbronzeConfig.get().maxSourceDimensions;
         if (cap > 0 && !activeDimensions.containsKey(biomeId) && getActiveDimensionCount() >= cap) {
             BrightbronzeHorizons.LOGGER.warn(
                 "Source dimension cap reached ({}). Refusing to create new source dimension for biome {}.",
@@ -87,8 +92,8 @@ public class SourceDimensionManager {
             return null;
         }
 
-        // Create the chunk generator for this biome
-        ChunkGenerator generator = createGeneratorForBiome(server, biomeId);
+        // Create the chunk generator for this biome (reused if the dimension was unloaded before)
+        ChunkGenerator generator = SharedGeneratorState.getGenerator(biomeId, id -> createGeneratorForBiome(server, id));
         if (generator == null) {
             BrightbronzeHorizons.LOGGER.error(
                 "Failed to create chunk generator for biome {}. Using overworld as fallback.",
@@ -109,10 +114,14 @@ public class SourceDimensionManager {
 
         if (newLevel != null) {
             activeDimensions.put(biomeId, dimensionKey);
+            SourceDimensionLifecycle.markUsed(server, biomeId);
             BrightbronzeHorizons.LOGGER.info(
                 "Successfully created source dimension for biome: {}",
                 biomeId
             );
+
+            // Evict least recently used dimensions right away if we are over the loaded cap.
+            SourceDimensionLifecycle.sweep(server);
             return newLevel;
         }
 
@@ -177,10 +186,11 @@ public class SourceDimensionManager {
     }
 
     /**
-     * Checks if a source dimension for the given biome is currently active.
+     * Checks if a source dimension for the given biome has been used this session.
+     * The dimension may have been unloaded since; see {@link SourceDimensionLifecycle#isLoaded}.
      * 
      * @param biomeId The biome's resource location
-     * @return true if the dimension exists and is loaded
+     * @return true if the dimension has been created or loaded this session
      */
     public static boolean isSourceDimensionActive(ResourceLocation biomeId) {
         return activeDimensions.containsKey(biomeId);
@@ -202,6 +212,7 @@ public class SourceDimensionManager {
      */
     public static void clearCache() {
         activeDimensions.clear();
+        SharedGeneratorState.clear();
         BrightbronzeHorizons.LOGGER.debug("Cleared source dimension cache");
     }
 
@@ -214,6 +225,21 @@ public class SourceDimensionManager {
         return activeDimensions.size();
     }
 
+    /**
+     * Returns the save directory of a biome's source dimension (which may not exist yet).
+     * Region, entity and POI files live in its {@code region/}, {@code entities/} and {@code poi/}
+     * subdirectories.
+     */
+    public static Path getSourceDimensionDir(MinecraftServer server, ResourceLocation biomeId) {
+        // Vanilla stores custom dimensions under <world>/dimensions/<namespace>/<path>/
+        // Our source dimension id is brightbronze_horizons:source/<biome_namespace>/<biome_path>
+        ResourceLocation dimId = ModDimensions.getSourceDimensionKey(biomeId).location();
+        return server.getWorldPath(LevelResource.ROOT)
+            .resolve("dimensions")
+            .resolve(dimId.getNamespace())
+            .resolve(dimId.getPath());
+    }
+
     /**
      * Phase 11: returns the set of biome IDs with active (loaded) source dimensions.
      */
@@ -0,0 +1,126 @@
+package red.gaius.brightbronze.world.dimension;
+
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.TickEvent;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import red.gaius.brightbronze.BrightbronzeHorizons;
+import red.gaius.brightbronze.config.BrightbronzeConfig;
+import red.gaius.brightbronze.versioned.Versioned;
+import red.gaius.brightbronze.world.PlayableAreaData;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads the source dimensions a world is most likely to need shortly after the server starts.
+ *
+ * <p>Without this, the first spawn of each biome after a restart pays for creating its source
+ * dimension. The prewarmer ranks the biomes recorded in {@link PlayableAreaData} by how many
+ * chunks were spawned from them and loads the top {@code sourceDimensionPrewarmCount}, one
+ * every {@value #PREWARM_INTERVAL_TICKS} ticks and only while the server has tick time to spare.
+ *
+ * <p>Prewarmed dimensions are ordinary source dimensions: if nothing uses them they are
+ * unloaded by {@link SourceDimensionLifecycle} like any other.
+ */
+public final class SourceDimensionPrewarmer {
+
+    /** How often (in ticks) the prewarmer considers starting the next dimension. */
+    private static final int PREWARM_INTERVAL_TICKS = 20;
+
+    /** Skip a prewarm step while the average tick takes longer than this. */
+    private static final long MAX_AVERAGE_TICK_NANOS = 40_000_000L;
+
+    private static final Deque<ResourceLocation> QUEUE = new ArrayDeque<>();
+
+    private static int ticksUntilNext;
+    private static boolean tickHookRegistered;
+
+    private SourceDimensionPrewarmer() {
+    }
+
+    public static void init() {
+        if (tickHookRegistered) {
+            return;
+        }
+        tickHookRegistered = true;
+
+        TickEvent.SERVER_POST.register(SourceDimensionPrewarmer::tick);
+        LifecycleEvent.SERVER_STOPPING.register(server -> {
+            QUEUE.clear();
+        });
+    }
+
+    /**
+     * Plans which source dimensions to prewarm. Called once after the server has started.
+     *
+     * @param server The Minecraft server
+     */
+    public static void start(MinecraftServer server) {
+        QUEUE.clear();
+
+        BrightbronzeConfig.Data config = BrightbronzeConfig.get();
+        int count = config.sourceDimensionPrewarmCount;
+        if (count <= 0 || !DimensionHelper.supportsDynamicDimensions()) {
+            return;
+        }
+        if (config.maxLoadedSourceDimensions > 0) {
+            count = Math.min(count, config.maxLoadedSourceDimensions);
+        }
+
+        PlayableAreaData data = PlayableAreaData.get(server);
+        Map<ResourceLocation, Integer> usage = new HashMap<>();
+        for (PlayableAreaData.SpawnedChunkMeta meta : data.getSpawnedChunkMeta()) {
+            usage.merge(meta.biome(), 1, Integer::sum);
+        }
+
+        var biomeRegistry = Versioned.registry().lookupRegistry(server.registryAccess(), Registries.BIOME);
+        List<ResourceLocation> ranked = usage.keySet().stream()
+            .filter(id -> Versioned.registry().getHolder(biomeRegistry, ResourceKey.create(Registries.BIOME, id)).isPresent())
+            .sorted(Comparator.comparing((ResourceLocation id) -> usage.get(id)).reversed()
+                .thenComparing(ResourceLocation::toString))
+            .limit(count)
+            .toList();
+
+        QUEUE.addAll(ranked);
+        ticksUntilNext = PREWARM_INTERVAL_TICKS;
+
+        if (!QUEUE.isEmpty()) {
+            BrightbronzeHorizons.LOGGER.info("Prewarming {} source dimension(s): {}", QUEUE.size(), QUEUE);
+        }
+    }
+
+    private static void tick(MinecraftServer server) {
+        if (QUEUE.isEmpty()) {
+            return;
+        }
+        if (--ticksUntilNext > 0) {
+            return;
+        }
+        ticksUntilNext = PREWARM_INTERVAL_TICKS;
+
+        if (server.getAverageTickTimeNanos() > MAX_AVERAGE_TICK_NANOS) {
+            return;
+        }
+
+        ResourceLocation biomeId = QUEUE.pollFirst();
+        if (biomeId == null) {
+            return;
+        }
+
+        // Don't push out dimensions that are already in use to make room for guesses.
+        int cap = BrightbronzeConfig.get().maxLoadedSourceDimensions;
+        if (cap > 0 && SourceDimensionLifecycle.getLoadedCount() >= cap && !SourceDimensionLifecycle.isLoaded(biomeId)) {
+            QUEUE.clear();
+            return;
+        }
+
+        SourceDimensionManager.getOrCreateSourceDimension(server, biomeId);
+    }
+}
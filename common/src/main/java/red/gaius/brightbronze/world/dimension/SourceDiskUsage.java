@@ -0,0 +1,291 @@
+package red.gaius.brightbronze.world.dimension;
+
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.TickEvent;
+import net.minecraft.Util;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.storage.LevelResource;
+import org.jetbrains.annotations.Nullable;
+import red.gaius.brightbronze.BrightbronzeHorizons;
+import red.gaius.brightbronze.registry.ModDimensions;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Keeps a running total of the disk space used by each source dimension, so usage can be
+ * reported without walking the world folder on the server thread.
+ *
+ * <p>All filesystem work runs on the IO pool:
+ * <ul>
+ *   <li>A full rescan of every source dimension folder after server start, and on request
+ *       ({@code /bbh:sourceUsage refresh}, disk budget checks)</li>
+ *   <li>A rescan of a single biome every {@link #DIRTY_RESCAN_INTERVAL_TICKS} ticks, for biomes
+ *       whose files changed: region, entity and POI writes reported by {@code RegionFileMixin},
+ *       and biomes reported through {@link #markDirty} after pruning or compaction</li>
+ * </ul>
+ *
+ * <p>Biomes nobody writes to are therefore never measured again after the first scan.
+ */
+public final class SourceDiskUsage {
+
+    private static final int DIRTY_RESCAN_INTERVAL_TICKS = 20 * 30;
+
+    /**
+     * @param bytes Bytes used by the biome's source dimension folder
+     * @param scannedAtMillis When the folder was last measured
+     */
+    public record Usage(long bytes, long scannedAtMillis) {
+    }
+
+    private static final Map<ResourceLocation, Usage> USAGE = new ConcurrentHashMap<>();
+    private static final Set<ResourceLocation> DIRTY = ConcurrentHashMap.newKeySet();
+
+    @Nullable
+    private static CompletableFuture<Void> fullScan;
+    @Nullable
+    private static CompletableFuture<Void> biomeScan;
+
+    /** Root of all source dimension folders while a server is running. Read from the IO threads. */
+    @Nullable
+    private static volatile Path sourceRoot;
+
+    private static volatile long lastFullScanMillis;
+    private static int ticksUntilDirtyScan = DIRTY_RESCAN_INTERVAL_TICKS;
+    private static boolean tickHookRegistered;
+
+    private SourceDiskUsage() {
+    }
+
+    public static void init() {
+        if (tickHookRegistered) {
+            return;
+        }
+        tickHookRegistered = true;
+
+        TickEvent.SERVER_POST.register(SourceDiskUsage::tick);
+        LifecycleEvent.SERVER_STOPPING.register(server -> {
+            USAGE.clear();
+            DIRTY.clear();
+            fullScan = null;
+            biomeScan = null;
+            sourceRoot = null;
+            lastFullScanMillis = 0L;
+        });
+    }
+
+    /**
+     * Starts the first full scan. Called once after the server has started.
+     */
+    public static void start(MinecraftServer server) {
+        sourceRoot = getSourceRoot(server).toAbsolutePath().normalize();
+        requestFullScan(server);
+    }
+
+    /**
+     * Schedules a rescan of one biome's folder, e.g. after files were deleted or rewritten.
+     */
+    public static void markDirty(ResourceLocation biomeId) {
+        DIRTY.add(biomeId);
+    }
+
+    /**
+     * Marks the source biome owning a region file as changed. Called on the chunk IO threads for
+     * every region, entity and POI file write; files outside the source dimensions are ignored.
+     *
+     * @param regionFile {@code <root>/<biome namespace>/<biome path>/<region|entities|poi>/r.x.z.mca}
+     */
+    public static void onRegionFileChanged(Path regionFile) {
+        Path root = sourceRoot;
+        if (root == null) {
+            return;
+        }
+
+        Path dimensionDir = regionFile.toAbsolutePath().normalize().getParent();
+        dimensionDir = dimensionDir != null ? dimensionDir.getParent() : null;
+        if (dimensionDir == null || !dimensionDir.startsWith(root) || dimensionDir.equals(root)) {
+            return;
+        }
+
+        Path relative = root.relativize(dimensionDir);
+        if (relative.getNameCount() < 2) {
+            return;
+        }
+        String namespace = relative.getName(0).toString();
+        String path = relative.subpath(1, relative.getNameCount()).toString().replace('\\', '/');
+        ResourceLocation biomeId = ResourceLocation.tryBuild(namespace, path);
+        if (biomeId != null) {
+            DIRTY.add(biomeId);
+        }
+    }
+
+    /**
+     * Starts a full rescan unless one is already running.
+     *
+     * @return true if a new scan was started
+     */
+    public static boolean requestFullScan(MinecraftServer server) {
+        if (fullScan != null && !fullScan.isDone()) {
+            return false;
+        }
+
+        Path root = getSourceRoot(server);
+        fullScan = CompletableFuture.runAsync(() -> scanAll(root), Util.ioPool())
+            .exceptionally(error -> {
+                BrightbronzeHorizons.LOGGER.warn("Source disk usage scan failed: {}", error.getMessage());
+                return null;
+            });
+        return true;
+    }
+
+    /**
+     * @return true while a full rescan is running
+     */
+    public static boolean isScanning() {
+        return fullScan != null && !fullScan.isDone();
+    }
+
+    /**
+     * @return When the last full scan finished (epoch millis), or 0 if none has finished yet
+     */
+    public static long getLastFullScanMillis() {
+        return lastFullScanMillis;
+    }
+
+    /**
+     * @return A copy of the current per-biome totals
+     */
+    public static Map<ResourceLocation, Usage> snapshot() {
+        return new HashMap<>(USAGE);
+    }
+
+    private static void tick(MinecraftServer server) {
+        if (lastFullScanMillis == 0L && fullScan == null) {
+            return;
+        }
+
+        if (--ticksUntilDirtyScan > 0) {
+            return;
+        }
+        ticksUntilDirtyScan = DIRTY_RESCAN_INTERVAL_TICKS;
+
+        if (isScanning() || (biomeScan != null && !biomeScan.isDone())) {
+            return;
+        }
+
+        ResourceLocation next = oldestDirty();
+        if (next == null) {
+            return;
+        }
+        DIRTY.remove(next);
+
+        Path dir = SourceDimensionManager.getSourceDimensionDir(server, next);
+        biomeScan = CompletableFuture.runAsync(() -> scanBiome(next, dir), Util.ioPool())
+            .exceptionally(error -> null);
+    }
+
+    @Nullable
+    private static ResourceLocation oldestDirty() {
+        ResourceLocation oldest = null;
+        long oldestMillis = Long.MAX_VALUE;
+        for (ResourceLocation biomeId : DIRTY) {
+            Usage usage = USAGE.get(biomeId);
+            long scannedAt = usage != null ? usage.scannedAtMillis() : 0L;
+            if (scannedAt < oldestMillis) {
+                oldest = biomeId;
+                oldestMillis = scannedAt;
+            }
+        }
+        return oldest;
+    }
+
+    /** IO pool. */
+    private static void scanBiome(ResourceLocation biomeId, Path dir) {
+        long bytes = directorySizeBytes(dir);
+        if (bytes == 0L && !Files.exists(dir)) {
+            USAGE.remove(biomeId);
+        } else {
+            USAGE.put(biomeId, new Usage(bytes, System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * IO pool. Source dimensions live in {@code <root>/<biome namespace>/<biome path>/}; a biome
+     * path may itself contain slashes, so any folder with storage subfolders counts as one.
+     */
+    private static void scanAll(Path root) {
+        Map<ResourceLocation, Usage> found = new HashMap<>();
+        long now = System.currentTimeMillis();
+
+        if (Files.isDirectory(root)) {
+            try (DirectoryStream<Path> namespaces = Files.newDirectoryStream(root, Files::isDirectory)) {
+                for (Path namespaceDir : namespaces) {
+                    String namespace = namespaceDir.getFileName().toString();
+                    try (Stream<Path> dirs = Files.walk(namespaceDir)) {
+                        dirs.filter(SourceDiskUsage::isDimensionDir).forEach(dimensionDir -> {
+                            String path = namespaceDir.relativize(dimensionDir).toString().replace('\\', '/');
+                            ResourceLocation biomeId = ResourceLocation.tryBuild(namespace, path);
+                            if (biomeId != null) {
+                                found.put(biomeId, new Usage(directorySizeBytes(dimensionDir), now));
+                            }
+                        });
+                    }
+                }
+            } catch (IOException e) {
+                BrightbronzeHorizons.LOGGER.warn("Failed to scan source dimensions in {}: {}", root, e.getMessage());
+                return;
+            }
+        }
+
+        USAGE.keySet().retainAll(found.keySet());
+        USAGE.putAll(found);
+        lastFullScanMillis = System.currentTimeMillis();
+    }
+
+    private static boolean isDimensionDir(Path dir) {
+        return Files.isDirectory(dir)
+            && (Files.isDirectory(dir.resolve("region")) || Files.isDirectory(dir.resolve("entities"))
+                || Files.isDirectory(dir.resolve("poi")) || Files.isDirectory(dir.resolve("data")));
+    }
+
+    private static Path getSourceRoot(MinecraftServer server) {
+        // <world>/dimensions/brightbronze_horizons/source/
+        return server.getWorldPath(LevelResource.ROOT)
+            .resolve("dimensions")
+            .resolve(BrightbronzeHorizons.MOD_ID)
+            .resolve(ModDimensions.SOURCE_DIMENSION_PREFIX.substring(0, ModDimensions.SOURCE_DIMENSION_PREFIX.length() - 1));
+    }
+
+    /**
+     * Sums the sizes of all regular files below {@code dir}. Only call off the server thread.
+     */
+    public static long directorySizeBytes(Path dir) {
+        if (dir == null || !Files.exists(dir)) {
+            return 0L;
+        }
+
+        try (Stream<Path> stream = Files.walk(dir)) {
+            return stream
+                .filter(Files::isRegularFile)
+                .mapToLong(path -> {
+                    try {
+                        return Files.size(path);
+                    } catch (IOException e) {
+                        return 0L;
+                    }
+                })
+                .sum();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package red.gaius.brightbronze.world.dimension;
+
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.TickEvent;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import red.gaius.brightbronze.BrightbronzeHorizons;
+import red.gaius.brightbronze.config.BrightbronzeConfig;
+
+/**
+ * Runs {@link SourceRegionCompactor} on a schedule and whenever source dimensions use more disk
+ * than {@code sourceDiskBudgetMb}.
+ *
+ * <p>The compactor already leaves busy biomes alone (loaded or leased by queued or
+ * running expansion work), so a file is never rewritten or deleted while a copy or prefetch may
+ * read it. When over budget, loaded source dimensions without pending work are unloaded first
+ * ("paused") so their files can be compacted as well; they are recreated from disk the next time
+ * a spawn needs them.
+ */
+public final class SourceMaintenanceScheduler {
+
+    /** How often (in ticks) the budget and schedule are checked. */
+    private static final int CHECK_INTERVAL_TICKS = 20 * 60;
+
+    /** Minimum spacing of budget-triggered runs, so an unreachable budget doesn't keep unloading dimensions. */
+    private static final int OVER_BUDGET_RETRY_TICKS = 20 * 60 * 10;
+
+    private static int ticksUntilCheck = CHECK_INTERVAL_TICKS;
+    private static long lastRunTick;
+    private static boolean warnedOverBudget;
+    private static boolean tickHookRegistered;
+
+    private SourceMaintenanceScheduler() {
+    }
+
+    public static void init() {
+        if (tickHookRegistered) {
+            return;
+        }
+        tickHookRegistered = true;
+
+        TickEvent.SERVER_POST.register(SourceMaintenanceScheduler::tick);
+        LifecycleEvent.SERVER_STARTED.register(server -> {
+            lastRunTick = server.getTickCount();
+            warnedOverBudget = false;
+        });
+    }
+
+    private static void tick(MinecraftServer server) {
+        if (--ticksUntilCheck > 0) {
+            return;
+        }
+        ticksUntilCheck = CHECK_INTERVAL_TICKS;
+
+        if (SourceRegionCompactor.isRunning()) {
+            return;
+        }
+
+        BrightbronzeConfig.Data config = BrightbronzeConfig.get();
+        long intervalTicks = config.sourceMaintenanceIntervalMinutes * 60L * 20L;
+        boolean due = intervalTicks > 0 && server.getTickCount() - lastRunTick >= intervalTicks;
+        boolean overBudget = server.getTickCount() - lastRunTick >= OVER_BUDGET_RETRY_TICKS && isOverBudget(config);
+        if (!due && !overBudget) {
+            return;
+        }
+
+        if (overBudget) {
+            pauseIdleDimensions(server);
+        }
+
+        lastRunTick = server.getTickCount();
+        int queued = SourceRegionCompactor.start(server, () -> onRunComplete(server));
+        if (queued > 0) {
+            BrightbronzeHorizons.LOGGER.info("Source maintenance: compacting {} region files{}", queued, overBudget ? " (over disk budget)" : "");
+        }
+    }
+
+    private static boolean isOverBudget(BrightbronzeConfig.Data config) {
+        if (config.sourceDiskBudgetMb <= 0 || SourceDiskUsage.getLastFullScanMillis() == 0L) {
+            return false;
+        }
+        return totalBytes() > config.sourceDiskBudgetMb * 1024L * 1024L;
+    }
+
+    private static long totalBytes() {
+        long total = 0L;
+        for (SourceDiskUsage.Usage usage : SourceDiskUsage.snapshot().values()) {
+            total += usage.bytes();
+        }
+        return total;
+    }
+
+    /**
+     * Unloads loaded source dimensions that nothing is waiting on, so the compactor can reach them.
+     */
+    private static void pauseIdleDimensions(MinecraftServer server) {
+        int paused = 0;
+        for (ResourceLocation biomeId : SourceDimensionLifecycle.getLoadedBiomeIds()) {
+            if (!SourceDimensionLifecycle.isLeased(biomeId) && SourceDimensionLifecycle.unloadForMaintenance(server, biomeId)) {
+                paused++;
+            }
+        }
+        if (paused > 0) {
+            BrightbronzeHorizons.LOGGER.debug("Source maintenance: unloaded {} idle source dimensions", paused);
+        }
+    }
+
+    private static void onRunComplete(MinecraftServer server) {
+        BrightbronzeConfig.Data config = BrightbronzeConfig.get();
+        if (config.sourceDiskBudgetMb <= 0) {
+            return;
+        }
+
+        // Totals refresh in the background; check against a fresh scan on the next pass.
+        SourceDiskUsage.requestFullScan(server);
+        if (isOverBudget(config) && !warnedOverBudget && SourceRegionCompactor.getBytesFreed() == 0L) {
+            warnedOverBudget = true;
+            BrightbronzeHorizons.LOGGER.warn(
+                "Source dimensions use more than the {} MiB disk budget and nothing more can be compacted; "
+                    + "remaining chunks have not been copied yet", config.sourceDiskBudgetMb);
+        }
+    }
+}
@@ -0,0 +1,445 @@
+package red.gaius.brightbronze.world.dimension;
+
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.TickEvent;
+import net.minecraft.Util;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+import red.gaius.brightbronze.BrightbronzeHorizons;
+import red.gaius.brightbronze.registry.ModDimensions;
+import red.gaius.brightbronze.world.PlayableAreaData;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Rewrites source dimension region files so they only hold chunks that may still be copied.
+ *
+ * <p>A source chunk is read exactly once, when it is copied into the playable area; after that
+ * it is dead weight. {@code /bbh:pruneSources} can only delete a region file once none of its
+ * 1024 chunks are needed. The compactor instead drops the copied chunks from every region, entity
+ * and POI file and writes the remaining chunks back to back, so the file shrinks to what is
+ * still useful. Files left with no chunks are deleted.
+ *
+ * <p>Only biomes whose source dimension is unloaded and not leased by pending
+ * work are compacted. Each file is rewritten on the IO pool into a temporary file. The swap
+ * happens on the server thread, where source dimensions are created, and is skipped if the
+ * original changed in the meantime. File reads are throttled to {@link #MAX_BYTES_PER_SECOND}.
+ */
+public final class SourceRegionCompactor {
+
+    /** Upper bound on region data read per second. */
+    private static final long MAX_BYTES_PER_SECOND = 8L * 1024 * 1024;
+
+    private static final long BYTES_PER_TICK = MAX_BYTES_PER_SECOND / 20;
+
+    private static final int SECTOR_BYTES = 4096;
+    private static final int HEADER_BYTES = SECTOR_BYTES * 2;
+    private static final int CHUNKS_PER_REGION = 32 * 32;
+
+    /** Region, entity and POI storage share the region file format and chunk layout. */
+    private static final String[] STORAGE_DIRS = {"region", "entities", "poi"};
+
+    private static final String TEMP_SUFFIX = ".compact";
+
+    private static final Deque<FileTask> QUEUE = new ArrayDeque<>();
+
+    @Nullable
+    private static FileTask current;
+    @Nullable
+    private static CompletableFuture<CompactedFile> currentResult;
+
+    @Nullable
+    private static Runnable onComplete;
+
+    /** Read allowance; goes negative after a large file and recovers over the next ticks. */
+    private static long byteBudget;
+
+    private static int filesRewritten;
+    private static int filesDeleted;
+    private static int filesSkipped;
+    private static long bytesBefore;
+    private static long bytesAfter;
+    private static boolean tickHookRegistered;
+
+    private SourceRegionCompactor() {
+    }
+
+    private record FileTask(ResourceLocation biomeId, Path file, Set<Long> droppedChunks) {
+    }
+
+    /**
+     * Outcome of rewriting one file off-thread.
+     *
+     * @param temp The compacted file, or null if the original should be deleted or left alone
+     * @param delete true if no chunk in the file is still needed
+     */
+    private record CompactedFile(
+        FileTask task,
+        long originalSize,
+        long originalModified,
+        @Nullable Path temp,
+        boolean delete,
+        long newSize,
+        List<Path> externalToDelete
+    ) {
+        boolean unchanged() {
+            return temp == null && !delete;
+        }
+    }
+
+    public static void init() {
+        if (tickHookRegistered) {
+            return;
+        }
+        tickHookRegistered = true;
+
+        TickEvent.SERVER_POST.register(SourceRegionCompactor::tick);
+        LifecycleEvent.SERVER_STOPPING.register(server -> cancel());
+    }
+
+    /**
+     * @return true while a compaction run is in progress
+     */
+    public static boolean isRunning() {
+        return current != null || !QUEUE.isEmpty();
+    }
+
+    /**
+     * @return A one-line progress summary
+     */
+    public static String describeProgress() {
+        return filesRewritten + " rewritten, " + filesDeleted + " deleted, " + filesSkipped + " skipped, "
+            + QUEUE.size() + " queued";
+    }
+
+    /**
+     * @return Bytes freed by the current (or last) run so far
+     */
+    public static long getBytesFreed() {
+        return Math.max(0L, bytesBefore - bytesAfter);
+    }
+
+    /**
+     * Queues every region file of every recorded source biome for compaction.
+     *
+     * @param server The Minecraft server
+     * @param completion Optional callback run on the server thread when the run finishes
+     * @return The number of files queued, or -1 if a run is already in progress
+     */
+    public static int start(MinecraftServer server, @Nullable Runnable completion) {
+        if (isRunning()) {
+            return -1;
+        }
+        resetCounters();
+
+        // Chunks already copied into the playable area are never read from the source again.
+        Map<ResourceLocation, Set<Long>> copiedByBiome = new HashMap<>();
+        for (PlayableAreaData.SpawnedChunkMeta meta : PlayableAreaData.get(server).getSpawnedChunkMeta()) {
+            copiedByBiome.computeIfAbsent(meta.biome(), ignored -> new HashSet<>()).add(meta.chunk().toLong());
+        }
+
+        for (Map.Entry<ResourceLocation, Set<Long>> entry : copiedByBiome.entrySet()) {
+            Path dimensionDir = SourceDimensionManager.getSourceDimensionDir(server, entry.getKey());
+            for (String storage : STORAGE_DIRS) {
+                Path dir = dimensionDir.resolve(storage);
+                if (!Files.isDirectory(dir)) {
+                    continue;
+                }
+
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "r.*.*.mca")) {
+                    for (Path file : stream) {
+                        if (regionContainsAny(file, entry.getValue())) {
+                            QUEUE.addLast(new FileTask(entry.getKey(), file, entry.getValue()));
+                        }
+                    }
+                } catch (IOException e) {
+                    BrightbronzeHorizons.LOGGER.warn("Failed to scan {}: {}", dir, e.getMessage());
+                }
+            }
+        }
+
+        int queued = QUEUE.size();
+        onComplete = completion;
+        if (queued == 0) {
+            finish();
+        }
+        return queued;
+    }
+
+    private static void tick(MinecraftServer server) {
+        if (!isRunning()) {
+            return;
+        }
+
+        byteBudget = Math.min(byteBudget + BYTES_PER_TICK, MAX_BYTES_PER_SECOND);
+
+        if (currentResult != null) {
+            if (!currentResult.isDone()) {
+                return;
+            }
+            CompactedFile result = currentResult.getNow(null);
+            currentResult = null;
+            current = null;
+            if (result != null) {
+                apply(server, result);
+            } else {
+                filesSkipped++;
+            }
+        }
+
+        while (current == null && !QUEUE.isEmpty() && byteBudget > 0) {
+            FileTask task = QUEUE.pollFirst();
+            if (!isIdle(server, task.biomeId())) {
+                filesSkipped++;
+                continue;
+            }
+
+            byteBudget -= sizeOf(task.file());
+            current = task;
+            currentResult = CompletableFuture
+                .supplyAsync(() -> compact(task), Util.ioPool())
+                .exceptionally(error -> {
+                    BrightbronzeHorizons.LOGGER.warn("Failed to compact {}: {}", task.file(), error.getMessage());
+                    return null;
+                });
+        }
+
+        if (!isRunning()) {
+            finish();
+        }
+    }
+
+    /**
+     * @return true if nothing can be reading or writing the biome's source region files: its
+     *         source dimension is not loaded and not leased by queued or running expansion work
+     *         (which covers copies and prefetches)
+     */
+    public static boolean isIdle(MinecraftServer server, ResourceLocation biomeId) {
+        ResourceKey<Level> key = ModDimensions.getSourceDimensionKey(biomeId);
+        return server.getLevel(key) == null
+            && !SourceDimensionLifecycle.isLeased(biomeId);
+    }
+
+    /** Server thread: swap in the compacted file if the biome is still idle and the original is untouched. */
+    private static void apply(MinecraftServer server, CompactedFile result) {
+        Path file = result.task().file();
+        try {
+            if (result.unchanged()) {
+                filesSkipped++;
+                return;
+            }
+
+            if (!isIdle(server, result.task().biomeId())
+                || !Files.exists(file)
+                || Files.size(file) != result.originalSize()
+                || Files.getLastModifiedTime(file).toMillis() != result.originalModified()) {
+                filesSkipped++;
+                return;
+            }
+
+            if (result.delete()) {
+                Files.delete(file);
+                filesDeleted++;
+            } else {
+                Files.move(result.temp(), file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                filesRewritten++;
+            }
+            bytesBefore += result.originalSize();
+            bytesAfter += result.newSize();
+            SourceDiskUsage.markDirty(result.task().biomeId());
+
+            for (Path external : result.externalToDelete()) {
+                bytesBefore += sizeOf(external);
+                Files.deleteIfExists(external);
+            }
+        } catch (IOException e) {
+            filesSkipped++;
+            BrightbronzeHorizons.LOGGER.warn("Failed to replace {}: {}", file, e.getMessage());
+        } finally {
+            deleteQuietly(result.temp());
+        }
+    }
+
+    /**
+     * IO pool: rewrites one region file without the dropped chunks, keeping the remaining
+     * chunks' payloads and timestamps byte for byte.
+     */
+    private static CompactedFile compact(FileTask task) {
+        Path file = task.file();
+        try {
+            long originalSize = Files.size(file);
+            long originalModified = Files.getLastModifiedTime(file).toMillis();
+            byte[] data = Files.readAllBytes(file);
+            if (data.length < HEADER_BYTES) {
+                return new CompactedFile(task, originalSize, originalModified, null, false, originalSize, List.of());
+            }
+
+            int[] regionXZ = parseRegionName(file.getFileName().toString());
+            ByteBuffer in = ByteBuffer.wrap(data);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            List<byte[]> payloads = new ArrayList<>();
+            List<Path> externalToDelete = new ArrayList<>();
+            int nextSector = 2;
+            int dropped = 0;
+
+            for (int index = 0; index < CHUNKS_PER_REGION; index++) {
+                int location = in.getInt(index * 4);
+                int timestamp = in.getInt(SECTOR_BYTES + index * 4);
+                int sectorOffset = location >>> 8;
+                int sectorCount = location & 0xFF;
+                if (sectorOffset < 2 || sectorCount == 0) {
+                    continue;
+                }
+
+                int start = sectorOffset * SECTOR_BYTES;
+                if (start + 5 > data.length) {
+                    continue;
+                }
+                int length = in.getInt(start);
+                if (length <= 0 || start + 4 + length > data.length) {
+                    continue;
+                }
+                boolean external = (data[start + 4] & 0x80) != 0;
+
+                ChunkPos pos = new ChunkPos(regionXZ[0] * 32 + (index & 31), regionXZ[1] * 32 + (index >> 5));
+                if (task.droppedChunks().contains(pos.toLong())) {
+                    dropped++;
+                    if (external) {
+                        externalToDelete.add(file.resolveSibling("c." + pos.x + "." + pos.z + ".mcc"));
+                    }
+                    continue;
+                }
+
+                int bytes = 4 + length;
+                int sectors = (bytes + SECTOR_BYTES - 1) / SECTOR_BYTES;
+                byte[] payload = new byte[sectors * SECTOR_BYTES];
+                System.arraycopy(data, start, payload, 0, bytes);
+                payloads.add(payload);
+
+                header.putInt(index * 4, (nextSector << 8) | sectors);
+                header.putInt(SECTOR_BYTES + index * 4, timestamp);
+                nextSector += sectors;
+            }
+
+            if (dropped == 0) {
+                return new CompactedFile(task, originalSize, originalModified, null, false, originalSize, List.of());
+            }
+            if (payloads.isEmpty()) {
+                return new CompactedFile(task, originalSize, originalModified, null, true, 0L, externalToDelete);
+            }
+
+            Path temp = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+            byte[] out = new byte[nextSector * SECTOR_BYTES];
+            System.arraycopy(header.array(), 0, out, 0, HEADER_BYTES);
+            int position = HEADER_BYTES;
+            for (byte[] payload : payloads) {
+                System.arraycopy(payload, 0, out, position, payload.length);
+                position += payload.length;
+            }
+            Files.write(temp, out);
+
+            return new CompactedFile(task, originalSize, originalModified, temp, false, out.length, externalToDelete);
+        } catch (IOException | RuntimeException e) {
+            BrightbronzeHorizons.LOGGER.warn("Failed to compact {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Cheap pre-check from the file name: does this region cover any dropped chunk?
+     */
+    private static boolean regionContainsAny(Path file, Set<Long> chunks) {
+        int[] regionXZ;
+        try {
+            regionXZ = parseRegionName(file.getFileName().toString());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        for (long key : chunks) {
+            if (ChunkPos.getX(key) >> 5 == regionXZ[0] && ChunkPos.getZ(key) >> 5 == regionXZ[1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] parseRegionName(String name) {
+        // r.<x>.<z>.mca
+        String[] parts = name.split("\\.");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Not a region file: " + name);
+        }
+        return new int[] {Integer.parseInt(parts[1]), Integer.parseInt(parts[2])};
+    }
+
+    private static void finish() {
+        if (filesRewritten + filesDeleted > 0) {
+            BrightbronzeHorizons.LOGGER.info("Source region compaction complete: {}", describeProgress());
+        }
+        Runnable completion = onComplete;
+        onComplete = null;
+        if (completion != null) {
+            completion.run();
+        }
+    }
+
+    private static void cancel() {
+        QUEUE.clear();
+        onComplete = null;
+        if (currentResult != null) {
+            CompactedFile pending = currentResult.join();
+            if (pending != null) {
+                deleteQuietly(pending.temp());
+            }
+        }
+        current = null;
+        currentResult = null;
+    }
+
+    private static void resetCounters() {
+        byteBudget = BYTES_PER_TICK;
+        filesRewritten = 0;
+        filesDeleted = 0;
+        filesSkipped = 0;
+        bytesBefore = 0L;
+        bytesAfter = 0L;
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static void deleteQuietly(@Nullable Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Leftover temp files are overwritten by the next run
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package red.gaius.brightbronze.world.template;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.phys.Vec3;
+import red.gaius.brightbronze.versioned.Versioned;
+import red.gaius.brightbronze.world.chunk.EntityTransfer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * A self-contained snapshot of a generated source chunk: block states, block entities and
+ * entities. Everything a chunk copy needs, without the source dimension.
+ *
+ * <p>Block states are stored per 16³ section as a palette plus one index per block
+ * ({@code (y << 8) | (z << 4) | x}); single-state sections (including all-air ones) store no
+ * indices. Block entities and entities keep their absolute source positions.
+ *
+ * <p>Serialized through {@link #CODEC} so the format is the same on every supported MC version.
+ */
+public record ChunkTemplate(
+    ChunkPos pos,
+    int minSectionY,
+    List<Section> sections,
+    List<BlockEntityEntry> blockEntities,
+    List<EntityEntry> entities
+) {
+
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+
+    private static final Codec<ChunkPos> CHUNK_POS_CODEC = RecordCodecBuilder.create(instance ->
+        instance.group(
+            Codec.INT.fieldOf("x").forGetter(pos -> pos.x),
+            Codec.INT.fieldOf("z").forGetter(pos -> pos.z)
+        ).apply(instance, ChunkPos::new)
+    );
+
+    public static final Codec<ChunkTemplate> CODEC = RecordCodecBuilder.create(instance ->
+        instance.group(
+            CHUNK_POS_CODEC.fieldOf("pos").forGetter(ChunkTemplate::pos),
+            Codec.INT.fieldOf("min_section_y").forGetter(ChunkTemplate::minSectionY),
+            Section.CODEC.listOf().fieldOf("sections").forGetter(ChunkTemplate::sections),
+            BlockEntityEntry.CODEC.listOf().optionalFieldOf("block_entities", List.of()).forGetter(ChunkTemplate::blockEntities),
+            EntityEntry.CODEC.listOf().optionalFieldOf("entities", List.of()).forGetter(ChunkTemplate::entities)
+        ).apply(instance, ChunkTemplate::new)
+    );
+
+    /**
+     * Captures a loaded source chunk.
+     *
+     * @param level The source level
+     * @param chunk The FULL-status chunk to capture
+     * @return The template
+     */
+    public static ChunkTemplate capture(ServerLevel level, LevelChunk chunk) {
+        ChunkPos pos = chunk.getPos();
+        int minSectionY = Versioned.level().getMinY(level) >> 4;
+
+        LevelChunkSection[] chunkSections = chunk.getSections();
+        List<Section> sections = new ArrayList<>(chunkSections.length);
+        for (LevelChunkSection section : chunkSections) {
+            sections.add(Section.capture(section));
+        }
+
+        List<BlockEntityEntry> blockEntities = new ArrayList<>();
+        for (BlockEntity blockEntity : chunk.getBlockEntities().values()) {
+            CompoundTag tag = blockEntity.saveWithFullMetadata(level.registryAccess());
+            blockEntities.add(new BlockEntityEntry(blockEntity.getBlockPos().immutable(), tag));
+        }
+
+        List<EntityEntry> entities = EntityTransfer.capture(level, pos);
+
+        return new ChunkTemplate(pos, minSectionY, sections, blockEntities, entities);
+    }
+
+    /**
+     * @param localX Block X within the chunk (0-15)
+     * @param y Absolute block Y
+     * @param localZ Block Z within the chunk (0-15)
+     * @return The captured block state, or air outside the captured height
+     */
+    public BlockState getBlockState(int localX, int y, int localZ) {
+        int index = (y >> 4) - minSectionY;
+        if (index < 0 || index >= sections.size()) {
+            return AIR;
+        }
+        return sections.get(index).get(localX, y & 15, localZ);
+    }
+
+    /**
+     * @return true if the section containing {@code y} holds nothing but air
+     */
+    public boolean isSectionEmpty(int y) {
+        int index = (y >> 4) - minSectionY;
+        if (index < 0 || index >= sections.size()) {
+            return true;
+        }
+        Section section = sections.get(index);
+        return section.indices().length == 0 && section.palette().get(0).isAir();
+    }
+
+    public Tag encode() {
+        return CODEC.encodeStart(NbtOps.INSTANCE, this).getOrThrow();
+    }
+
+    public static ChunkTemplate decode(Tag tag) {
+        return CODEC.parse(NbtOps.INSTANCE, tag).getOrThrow();
+    }
+
+    /**
+     * One 16³ section: a palette and per-block indices into it (empty if the palette has one entry).
+     */
+    public record Section(List<BlockState> palette, int[] indices) {
+        static final Codec<Section> CODEC = RecordCodecBuilder.create(instance ->
+            instance.group(
+                BlockState.CODEC.listOf().fieldOf("palette").forGetter(Section::palette),
+                Codec.INT_STREAM.xmap(IntStream::toArray, Arrays::stream)
+                    .optionalFieldOf("data", new int[0]).forGetter(Section::indices)
+            ).apply(instance, Section::new)
+        );
+
+        private static final Section EMPTY = new Section(List.of(AIR), new int[0]);
+
+        static Section capture(LevelChunkSection section) {
+            if (section.hasOnlyAir()) {
+                return EMPTY;
+            }
+
+            Map<BlockState, Integer> ids = new IdentityHashMap<>();
+            List<BlockState> palette = new ArrayList<>();
+            int[] indices = new int[16 * 16 * 16];
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        BlockState state = section.getBlockState(x, y, z);
+                        Integer id = ids.get(state);
+                        if (id == null) {
+                            id = palette.size();
+                            ids.put(state, id);
+                            palette.add(state);
+                        }
+                        indices[(y << 8) | (z << 4) | x] = id;
+                    }
+                }
+            }
+
+            return palette.size() == 1 ? new Section(palette, new int[0]) : new Section(palette, indices);
+        }
+
+        BlockState get(int x, int y, int z) {
+            if (indices.length == 0) {
+                return palette.get(0);
+            }
+            return palette.get(indices[(y << 8) | (z << 4) | x]);
+        }
+    }
+
+    /** A block entity with its absolute source position. */
+    public record BlockEntityEntry(BlockPos pos, CompoundTag tag) {
+        static final Codec<BlockEntityEntry> CODEC = RecordCodecBuilder.create(instance ->
+            instance.group(
+                BlockPos.CODEC.fieldOf("pos").forGetter(BlockEntityEntry::pos),
+                CompoundTag.CODEC.fieldOf("nbt").forGetter(BlockEntityEntry::tag)
+            ).apply(instance, BlockEntityEntry::new)
+        );
+    }
+
+    /** An entity with its absolute source position. */
+    public record EntityEntry(Vec3 pos, CompoundTag tag) {
+        public static final Codec<EntityEntry> CODEC = RecordCodecBuilder.create(instance ->
+            instance.group(
+                Vec3.CODEC.fieldOf("pos").forGetter(EntityEntry::pos),
+                CompoundTag.CODEC.fieldOf("nbt").forGetter(EntityEntry::tag)
+            ).apply(instance, EntityEntry::new)
+        );
+    }
+}
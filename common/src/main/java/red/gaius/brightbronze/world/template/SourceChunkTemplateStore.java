@@ -0,0 +1,381 @@
+package red.gaius.brightbronze.world.template;
+
+import net.minecraft.Util;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.storage.LevelResource;
+import org.jetbrains.annotations.Nullable;
+import red.gaius.brightbronze.BrightbronzeHorizons;
+import red.gaius.brightbronze.config.BrightbronzeConfig;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-world on-disk cache of pre-baked source chunk templates.
+ *
+ * <p>Each biome has two files under {@code <world>/brightbronze_horizons/templates/<namespace>/}:
+ * <ul>
+ *   <li>{@code <path>.bbt}: appended, individually compressed {@link ChunkTemplate} records</li>
+ *   <li>{@code <path>.bbi}: fixed-size index entries (chunk key, offset, length), read into memory
+ *       when the store is opened. Later entries for the same chunk win.</li>
+ * </ul>
+ *
+ * <p>Templates are written by {@link TemplatePregenerator} and template pack imports, and by live
+ * copies only with {@code captureCopiedChunkTemplates}. Copy jobs look up a template here before
+ * touching the source dimension. Once a chunk has a template, the source region file holding it is
+ * no longer needed and can be pruned.
+ *
+ * <p>Lookups are synchronous (one positional read of a few KiB) and never create files; a biome
+ * without an index file is remembered as empty until something is stored for it. Writes are
+ * encoded, compressed and appended on the IO pool, in order per biome; until a write lands,
+ * lookups are served from the queued template.
+ */
+public final class SourceChunkTemplateStore {
+
+    private static final String DATA_EXTENSION = ".bbt";
+    private static final String INDEX_EXTENSION = ".bbi";
+
+    /** chunk key (long) + offset (long) + length (int) */
+    private static final int INDEX_ENTRY_BYTES = 20;
+
+    private static final Map<ResourceLocation, BiomeTemplateFile> OPEN = new HashMap<>();
+
+    /** Biomes found without template files, so repeated lookups skip the file system. */
+    private static final Set<ResourceLocation> MISSING = new HashSet<>();
+
+    private SourceChunkTemplateStore() {
+    }
+
+    /**
+     * @return true if templates are enabled in the config
+     */
+    public static boolean isEnabled() {
+        return BrightbronzeConfig.get().sourceChunkTemplates;
+    }
+
+    /**
+     * @return true if live copies should also store their source chunk as a template
+     */
+    public static boolean isCaptureEnabled() {
+        BrightbronzeConfig.Data config = BrightbronzeConfig.get();
+        return config.sourceChunkTemplates && config.captureCopiedChunkTemplates;
+    }
+
+    public static Path getTemplateDir(MinecraftServer server) {
+        return server.getWorldPath(LevelResource.ROOT)
+            .resolve(BrightbronzeHorizons.MOD_ID)
+            .resolve("templates");
+    }
+
+    /**
+     * Reads the template for a source chunk.
+     *
+     * @return The template, or null if there is none (or it could not be read)
+     */
+    @Nullable
+    public static ChunkTemplate get(MinecraftServer server, ResourceLocation biomeId, ChunkPos pos) {
+        if (!isEnabled()) {
+            return null;
+        }
+        BiomeTemplateFile file = open(server, biomeId, false);
+        return file != null ? file.read(pos) : null;
+    }
+
+    /**
+     * @return true if a template for the chunk has been written (or is being written)
+     */
+    public static boolean contains(MinecraftServer server, ResourceLocation biomeId, ChunkPos pos) {
+        if (!isEnabled()) {
+            return false;
+        }
+        BiomeTemplateFile file = open(server, biomeId, false);
+        return file != null && file.contains(pos);
+    }
+
+    /**
+     * Stores a template in the background.
+     */
+    public static void put(MinecraftServer server, ResourceLocation biomeId, ChunkTemplate template) {
+        if (!isEnabled()) {
+            return;
+        }
+        BiomeTemplateFile file = open(server, biomeId, true);
+        if (file != null) {
+            file.append(template);
+        }
+    }
+
+    /**
+     * Stores an already compressed template record (as found in a template pack) unless the
+     * chunk already has one.
+     *
+     * @return true if the record was queued for writing
+     */
+    static boolean putRawIfAbsent(MinecraftServer server, ResourceLocation biomeId, long chunkKey, byte[] payload) {
+        BiomeTemplateFile file = open(server, biomeId, true);
+        if (file == null || file.contains(chunkKey)) {
+            return false;
+        }
+        file.appendRaw(chunkKey, payload);
+        return true;
+    }
+
+    /**
+     * Waits for pending writes and closes all open files. Called when the server stops.
+     */
+    public static synchronized void closeAll() {
+        for (BiomeTemplateFile file : OPEN.values()) {
+            file.close();
+        }
+        OPEN.clear();
+        MISSING.clear();
+    }
+
+    /**
+     * Opens a biome's template files.
+     *
+     * @param create Whether to create the files if they don't exist yet; lookups pass false
+     * @return The open files, or null if they don't exist (and create is false) or failed to open
+     */
+    @Nullable
+    private static synchronized BiomeTemplateFile open(MinecraftServer server, ResourceLocation biomeId, boolean create) {
+        BiomeTemplateFile existing = OPEN.get(biomeId);
+        if (existing != null) {
+            return existing;
+        }
+        if (!create && MISSING.contains(biomeId)) {
+            return null;
+        }
+
+        Path dir = getTemplateDir(server).resolve(biomeId.getNamespace());
+        Path dataPath = dir.resolve(biomeId.getPath() + DATA_EXTENSION);
+        Path indexPath = dir.resolve(biomeId.getPath() + INDEX_EXTENSION);
+        if (!create && (!Files.isRegularFile(indexPath) || !Files.isRegularFile(dataPath))) {
+            MISSING.add(biomeId);
+            return null;
+        }
+
+        try {
+            if (create) {
+                // Biome paths may contain '/', e.g. "overworld/lush_meadow".
+                Files.createDirectories(dataPath.getParent());
+            }
+            BiomeTemplateFile file = new BiomeTemplateFile(dataPath, indexPath, create);
+            OPEN.put(biomeId, file);
+            MISSING.remove(biomeId);
+            return file;
+        } catch (IOException e) {
+            BrightbronzeHorizons.LOGGER.warn("Failed to open template store for biome {}: {}", biomeId, e.getMessage());
+            return null;
+        }
+    }
+
+    static long chunkKey(ChunkPos pos) {
+        return (((long) pos.x) << 32) ^ (pos.z & 0xFFFFFFFFL);
+    }
+
+    private record IndexEntry(long offset, int length) {
+    }
+
+    /** A queued write: either a template still to be encoded, or an already compressed record. */
+    private record PendingWrite(@Nullable ChunkTemplate template, @Nullable byte[] payload) {
+    }
+
+    /**
+     * Reads a raw index file into (chunk key → offset, length) entries, dropping entries that point
+     * past the end of the data.
+     *
+     * @return Entries as {@code [key, offset, length]} triples, in file order
+     */
+    static List<long[]> readIndex(ByteBuffer index, long dataSize) {
+        List<long[]> out = new ArrayList<>();
+        while (index.remaining() >= INDEX_ENTRY_BYTES) {
+            long key = index.getLong();
+            long offset = index.getLong();
+            int length = index.getInt();
+            if (offset >= 0 && length > 0 && offset + length <= dataSize) {
+                out.add(new long[] {key, offset, length});
+            }
+        }
+        return out;
+    }
+
+    private static final class BiomeTemplateFile {
+        private final FileChannel data;
+        private final FileChannel index;
+        private final Map<Long, IndexEntry> entries = new ConcurrentHashMap<>();
+
+        /** Writes not yet on disk, so {@link #contains} and {@link #read} see them right away. */
+        private final Map<Long, PendingWrite> pending = new ConcurrentHashMap<>();
+
+        /** Tail of the write chain; appends run one after another on the IO pool. */
+        private CompletableFuture<Void> lastWrite = CompletableFuture.completedFuture(null);
+
+        private BiomeTemplateFile(Path dataPath, Path indexPath, boolean create) throws IOException {
+            Set<StandardOpenOption> options = create
+                ? EnumSet.of(StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : EnumSet.of(StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.data = FileChannel.open(dataPath, options);
+            try {
+                this.index = FileChannel.open(indexPath, options);
+            } catch (IOException e) {
+                data.close();
+                throw e;
+            }
+            loadIndex();
+        }
+
+        private void loadIndex() throws IOException {
+            long dataSize = data.size();
+            // Ignore a torn trailing entry from an interrupted write.
+            long indexSize = index.size() - (index.size() % INDEX_ENTRY_BYTES);
+            if (indexSize == 0) {
+                return;
+            }
+
+            MappedByteBuffer mapped = index.map(FileChannel.MapMode.READ_ONLY, 0, indexSize);
+            for (long[] entry : readIndex(mapped, dataSize)) {
+                entries.put(entry[0], new IndexEntry(entry[1], (int) entry[2]));
+            }
+        }
+
+        boolean contains(ChunkPos pos) {
+            return contains(chunkKey(pos));
+        }
+
+        boolean contains(long key) {
+            return entries.containsKey(key) || pending.containsKey(key);
+        }
+
+        @Nullable
+        ChunkTemplate read(ChunkPos pos) {
+            long key = chunkKey(pos);
+            PendingWrite queued = pending.get(key);
+            if (queued != null) {
+                return queued.template() != null ? queued.template() : decode(pos, queued.payload());
+            }
+
+            IndexEntry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+
+            try {
+                ByteBuffer buffer = ByteBuffer.allocate(entry.length());
+                long position = entry.offset();
+                while (buffer.hasRemaining()) {
+                    int read = data.read(buffer, position);
+                    if (read < 0) {
+                        throw new IOException("Unexpected end of template data");
+                    }
+                    position += read;
+                }
+                return decode(pos, buffer.array());
+            } catch (IOException e) {
+                BrightbronzeHorizons.LOGGER.warn("Failed to read chunk template {}: {}", pos, e.getMessage());
+                return null;
+            }
+        }
+
+        @Nullable
+        private static ChunkTemplate decode(ChunkPos pos, byte[] payload) {
+            try {
+                CompoundTag tag = NbtIo.readCompressed(new ByteArrayInputStream(payload), NbtAccounter.unlimitedHeap());
+                return ChunkTemplate.decode(tag);
+            } catch (Exception e) {
+                BrightbronzeHorizons.LOGGER.warn("Failed to read chunk template {}: {}", pos, e.getMessage());
+                return null;
+            }
+        }
+
+        synchronized void append(ChunkTemplate template) {
+            long key = chunkKey(template.pos());
+            PendingWrite queued = new PendingWrite(template, null);
+            pending.put(key, queued);
+
+            lastWrite = lastWrite.thenRunAsync(() -> {
+                try {
+                    if (!(template.encode() instanceof CompoundTag tag)) {
+                        throw new IOException("Template did not encode to a compound tag");
+                    }
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    NbtIo.writeCompressed(tag, bytes);
+                    write(key, bytes.toByteArray());
+                } catch (Exception e) {
+                    BrightbronzeHorizons.LOGGER.warn("Failed to write chunk template {}: {}", template.pos(), e.getMessage());
+                } finally {
+                    // A later write for the same chunk stays pending until it lands itself.
+                    pending.remove(key, queued);
+                }
+            }, Util.ioPool());
+        }
+
+        synchronized void appendRaw(long key, byte[] payload) {
+            PendingWrite queued = new PendingWrite(null, payload);
+            pending.put(key, queued);
+
+            lastWrite = lastWrite.thenRunAsync(() -> {
+                try {
+                    write(key, payload);
+                } catch (Exception e) {
+                    BrightbronzeHorizons.LOGGER.warn("Failed to write imported chunk template: {}", e.getMessage());
+                } finally {
+                    pending.remove(key, queued);
+                }
+            }, Util.ioPool());
+        }
+
+        /** Runs on the IO pool, one call at a time. */
+        private void write(long key, byte[] payload) throws IOException {
+            long offset = data.size();
+            writeFully(data, ByteBuffer.wrap(payload), offset);
+
+            ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_BYTES);
+            entry.putLong(key).putLong(offset).putInt(payload.length).flip();
+            writeFully(index, entry, index.size());
+
+            entries.put(key, new IndexEntry(offset, payload.length));
+        }
+
+        synchronized void close() {
+            try {
+                lastWrite.join();
+            } catch (Exception ignored) {
+                // Failures are logged by the write itself
+            }
+            try {
+                data.close();
+                index.close();
+            } catch (IOException e) {
+                BrightbronzeHorizons.LOGGER.debug("Failed to close template store: {}", e.getMessage());
+            }
+        }
+
+        private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package red.gaius.brightbronze.world.template;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.storage.LevelResource;
+import red.gaius.brightbronze.BrightbronzeHorizons;
+import red.gaius.brightbronze.config.ConfigPaths;
+import red.gaius.brightbronze.versioned.Versioned;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Portable template packs: a zip of a world's baked template files plus a small manifest, so a
+ * modpack can ship templates generated offline with {@link TemplatePregenerator}.
+ *
+ * <p>Layout:
+ * <pre>
+ * pack.json                         manifest (format version, MC data version, seed, biomes)
+ * templates/&lt;ns&gt;/&lt;path&gt;.bbt       template records, as in the world's template store
+ * templates/&lt;ns&gt;/&lt;path&gt;.bbi       index entries
+ * </pre>
+ *
+ * <p>Packs placed in {@code config/brightbronze_horizons/template_packs/} are imported when the
+ * server starts. Source terrain depends on the seed and the game version, so a pack is only
+ * imported into a world with the same seed and data version. Chunks that already have a
+ * template are left alone.
+ */
+public final class TemplatePacks {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final String MANIFEST = "pack.json";
+    private static final String TEMPLATES_PREFIX = "templates/";
+    private static final String DATA_EXTENSION = ".bbt";
+    private static final String INDEX_EXTENSION = ".bbi";
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private TemplatePacks() {
+    }
+
+    /** pack.json contents. */
+    private static final class Manifest {
+        int formatVersion;
+        int dataVersion;
+        long seed;
+        List<String> biomes = new ArrayList<>();
+    }
+
+    /**
+     * @return Where exported packs are written
+     */
+    public static Path getExportDir(MinecraftServer server) {
+        return server.getWorldPath(LevelResource.ROOT)
+            .resolve(BrightbronzeHorizons.MOD_ID)
+            .resolve("template_packs");
+    }
+
+    /**
+     * @return Where packs are picked up from at server start
+     */
+    public static Path getImportDir() {
+        return ConfigPaths.getConfigDir()
+            .resolve(BrightbronzeHorizons.MOD_ID)
+            .resolve("template_packs");
+    }
+
+    /**
+     * Writes every baked template of this world into {@code <name>.zip}. Flushes pending
+     * template writes first, so this runs on the server thread.
+     *
+     * @return The written pack file
+     */
+    public static Path export(MinecraftServer server, String name) throws IOException {
+        SourceChunkTemplateStore.closeAll();
+
+        Path templateDir = SourceChunkTemplateStore.getTemplateDir(server);
+        Path out = getExportDir(server).resolve(name + ".zip");
+        Files.createDirectories(out.getParent());
+
+        Manifest manifest = new Manifest();
+        manifest.formatVersion = FORMAT_VERSION;
+        manifest.dataVersion = Versioned.dataVersion();
+        manifest.seed = server.getWorldData().worldGenOptions().seed();
+
+        List<Path> indexFiles = new ArrayList<>();
+        if (Files.isDirectory(templateDir)) {
+            try (Stream<Path> files = Files.walk(templateDir)) {
+                files.filter(path -> path.getFileName().toString().endsWith(INDEX_EXTENSION))
+                    .sorted()
+                    .forEach(indexFiles::add);
+            }
+        }
+
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(out))) {
+            for (Path indexFile : indexFiles) {
+                // <ns>/<path>.bbi, where the biome path may itself contain '/'
+                Path relative = templateDir.relativize(indexFile);
+                if (relative.getNameCount() < 2) {
+                    continue;
+                }
+                String namespace = relative.getName(0).toString();
+                String relativeName = relative.subpath(1, relative.getNameCount()).toString().replace('\\', '/');
+                String path = relativeName.substring(0, relativeName.length() - INDEX_EXTENSION.length());
+                String indexName = indexFile.getFileName().toString();
+                Path dataFile = indexFile.resolveSibling(
+                    indexName.substring(0, indexName.length() - INDEX_EXTENSION.length()) + DATA_EXTENSION);
+                if (!Files.isRegularFile(dataFile)) {
+                    continue;
+                }
+
+                String entryBase = TEMPLATES_PREFIX + namespace + "/" + path;
+                writeEntry(zip, entryBase + DATA_EXTENSION, dataFile);
+                writeEntry(zip, entryBase + INDEX_EXTENSION, indexFile);
+                manifest.biomes.add(namespace + ":" + path);
+            }
+
+            zip.putNextEntry(new ZipEntry(MANIFEST));
+            zip.write(GSON.toJson(manifest).getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+
+        BrightbronzeHorizons.LOGGER.info("Exported {} biome template file(s) to {}", manifest.biomes.size(), out);
+        return out;
+    }
+
+    /**
+     * Imports every compatible pack in {@link #getImportDir()}. Called once after the server has
+     * started.
+     */
+    public static void importAll(MinecraftServer server) {
+        if (!SourceChunkTemplateStore.isEnabled()) {
+            return;
+        }
+
+        Path dir = getImportDir();
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*.zip")) {
+            for (Path pack : stream) {
+                try {
+                    int imported = importPack(server, pack);
+                    if (imported > 0) {
+                        BrightbronzeHorizons.LOGGER.info("Imported {} chunk template(s) from {}", imported, pack.getFileName());
+                    }
+                } catch (Exception e) {
+                    BrightbronzeHorizons.LOGGER.warn("Failed to import template pack {}: {}", pack.getFileName(), e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            BrightbronzeHorizons.LOGGER.warn("Failed to scan template packs in {}: {}", dir, e.getMessage());
+        }
+    }
+
+    private static int importPack(MinecraftServer server, Path packFile) throws IOException {
+        try (ZipFile zip = new ZipFile(packFile.toFile())) {
+            ZipEntry manifestEntry = zip.getEntry(MANIFEST);
+            if (manifestEntry == null) {
+                throw new IOException("Missing " + MANIFEST);
+            }
+
+            Manifest manifest;
+            try (InputStream in = zip.getInputStream(manifestEntry)) {
+                manifest = GSON.fromJson(new String(in.readAllBytes(), StandardCharsets.UTF_8), Manifest.class);
+            }
+            if (manifest == null || manifest.formatVersion != FORMAT_VERSION) {
+                throw new IOException("Unsupported pack format");
+            }
+
+            long seed = server.getWorldData().worldGenOptions().seed();
+            if (manifest.seed != seed) {
+                BrightbronzeHorizons.LOGGER.info("Skipping template pack {}: made for seed {}, world seed is {}",
+                    packFile.getFileName(), manifest.seed, seed);
+                return 0;
+            }
+            int dataVersion = Versioned.dataVersion();
+            if (manifest.dataVersion != dataVersion) {
+                BrightbronzeHorizons.LOGGER.info("Skipping template pack {}: made for data version {}, game is {}",
+                    packFile.getFileName(), manifest.dataVersion, dataVersion);
+                return 0;
+            }
+
+            int imported = 0;
+            for (String biome : manifest.biomes) {
+                ResourceLocation biomeId = ResourceLocation.tryParse(biome);
+                if (biomeId == null) {
+                    continue;
+                }
+                imported += importBiome(server, zip, biomeId);
+            }
+            return imported;
+        }
+    }
+
+    private static int importBiome(MinecraftServer server, ZipFile zip, ResourceLocation biomeId) throws IOException {
+        String entryBase = TEMPLATES_PREFIX + biomeId.getNamespace() + "/" + biomeId.getPath();
+        ZipEntry dataEntry = zip.getEntry(entryBase + DATA_EXTENSION);
+        ZipEntry indexEntry = zip.getEntry(entryBase + INDEX_EXTENSION);
+        if (dataEntry == null || indexEntry == null) {
+            return 0;
+        }
+
+        byte[] data;
+        byte[] index;
+        try (InputStream in = zip.getInputStream(dataEntry)) {
+            data = in.readAllBytes();
+        }
+        try (InputStream in = zip.getInputStream(indexEntry)) {
+            index = in.readAllBytes();
+        }
+
+        // Later index entries for the same chunk win, same as in the store.
+        Map<Long, long[]> latest = new HashMap<>();
+        for (long[] entry : SourceChunkTemplateStore.readIndex(ByteBuffer.wrap(index), data.length)) {
+            latest.put(entry[0], entry);
+        }
+
+        int imported = 0;
+        for (long[] entry : latest.values()) {
+            byte[] payload = new byte[(int) entry[2]];
+            System.arraycopy(data, (int) entry[1], payload, 0, payload.length);
+            if (SourceChunkTemplateStore.putRawIfAbsent(server, biomeId, entry[0], payload)) {
+                imported++;
+            }
+        }
+        return imported;
+    }
+
+    private static void writeEntry(ZipOutputStream zip, String name, Path file) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        Files.copy(file, zip);
+        zip.closeEntry();
+    }
+}
@@ -0,0 +1,286 @@
+package red.gaius.brightbronze.world.template;
+
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.TickEvent;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ChunkResult;
+import net.minecraft.server.level.GenerationChunkHolder;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import org.jetbrains.annotations.Nullable;
+import red.gaius.brightbronze.BrightbronzeHorizons;
+import red.gaius.brightbronze.config.BrightbronzeConfig;
+import red.gaius.brightbronze.versioned.Versioned;
+import red.gaius.brightbronze.world.BiomePoolManager;
+import red.gaius.brightbronze.world.ChunkSpawnerTier;
+import red.gaius.brightbronze.world.PlayableAreaData;
+import red.gaius.brightbronze.world.dimension.SourceDimensionLifecycle;
+import red.gaius.brightbronze.world.dimension.SourceDimensionManager;
+import red.gaius.brightbronze.world.rules.BiomeRuleManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Bakes source chunk templates ahead of time for every enabled tier biome.
+ *
+ * <p>Generates each (biome, chunk) within a radius of spawn in its source dimension, captures it
+ * into {@link SourceChunkTemplateStore} and releases it. Work is ordered biome by biome so only
+ * one or two source dimensions need to be loaded at a time, and is bounded per tick.
+ *
+ * <p>Runs from {@code /bbh:pregenTemplates}, or headless: starting a dedicated server with
+ * {@code -Dbrightbronze_horizons.pregenTemplates=<radius>} bakes all templates and then stops
+ * the server. The result can be exported as a template pack with {@link TemplatePacks}.
+ */
+public final class TemplatePregenerator {
+
+    /** System property that enables headless batch mode on a dedicated server. */
+    public static final String HEADLESS_PROPERTY = BrightbronzeHorizons.MOD_ID + ".pregenTemplates";
+
+    /** Source chunks being generated at once. */
+    private static final int MAX_IN_FLIGHT = 4;
+
+    /** Don't start new chunks while the average tick takes longer than this (interactive runs only). */
+    private static final long MAX_AVERAGE_TICK_NANOS = 40_000_000L;
+
+    private static final int PROGRESS_LOG_INTERVAL_TICKS = 20 * 30;
+
+    private static final Deque<Task> QUEUE = new ArrayDeque<>();
+    private static final List<InFlight> IN_FLIGHT = new ArrayList<>();
+
+    @Nullable
+    private static Runnable onComplete;
+
+    private static boolean headless;
+    private static int total;
+    private static int baked;
+    private static int failed;
+    private static int ticksUntilProgressLog;
+    private static boolean tickHookRegistered;
+
+    private TemplatePregenerator() {
+    }
+
+    private record Task(ResourceLocation biomeId, ChunkPos pos) {
+    }
+
+    /** A source chunk being generated. Holds a lease on its source dimension and a copy ticket. */
+    private record InFlight(Task task, ServerLevel level, CompletableFuture<ChunkResult<ChunkAccess>> chunk) {
+    }
+
+    public static void init() {
+        if (tickHookRegistered) {
+            return;
+        }
+        tickHookRegistered = true;
+
+        TickEvent.SERVER_POST.register(TemplatePregenerator::tick);
+        LifecycleEvent.SERVER_STOPPING.register(server -> reset());
+    }
+
+    /**
+     * Starts headless batch mode if requested via {@link #HEADLESS_PROPERTY}. Called after the
+     * server has started.
+     */
+    public static void startHeadlessIfRequested(MinecraftServer server) {
+        String value = System.getProperty(HEADLESS_PROPERTY);
+        if (value == null || value.isBlank() || !server.isDedicatedServer()) {
+            return;
+        }
+
+        int radius;
+        try {
+            radius = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            BrightbronzeHorizons.LOGGER.error("Invalid {} value '{}': expected a chunk radius", HEADLESS_PROPERTY, value);
+            return;
+        }
+
+        headless = true;
+        int queued = start(server, radius, () -> {
+            BrightbronzeHorizons.LOGGER.info("Headless template pregeneration finished; stopping server");
+            server.halt(false);
+        });
+        BrightbronzeHorizons.LOGGER.info("Headless template pregeneration: {} chunks queued (radius {})", queued, radius);
+    }
+
+    /**
+     * @return true while a pregeneration run is in progress
+     */
+    public static boolean isRunning() {
+        return !QUEUE.isEmpty() || !IN_FLIGHT.isEmpty();
+    }
+
+    /**
+     * @return A one-line progress summary
+     */
+    public static String describeProgress() {
+        return baked + "/" + total + " baked, " + failed + " failed, " + IN_FLIGHT.size() + " in flight";
+    }
+
+    /**
+     * Queues every enabled tier biome for every chunk within {@code radius} of spawn.
+     * Chunks that are already playable or already have a template are skipped.
+     *
+     * @param server The Minecraft server
+     * @param radius Radius in chunks around the spawn chunk
+     * @param completion Optional callback run on the server thread when the run finishes
+     * @return The number of chunks queued, or -1 if a run is already in progress
+     */
+    public static int start(MinecraftServer server, int radius, @Nullable Runnable completion) {
+        if (isRunning()) {
+            return -1;
+        }
+        reset();
+
+        ServerLevel overworld = server.getLevel(Level.OVERWORLD);
+        if (overworld == null || !SourceChunkTemplateStore.isEnabled()) {
+            return 0;
+        }
+
+        PlayableAreaData data = PlayableAreaData.get(server);
+        BlockPos spawnPos = Versioned.spawn().getSpawnPosition(overworld);
+        ChunkPos center = data.isInitialized() ? data.getSpawnChunk()
+            : spawnPos != null ? new ChunkPos(spawnPos) : new ChunkPos(0, 0);
+
+        for (ResourceLocation biomeId : collectTierBiomes(server)) {
+            for (int dx = -radius; dx <= radius; dx++) {
+                for (int dz = -radius; dz <= radius; dz++) {
+                    ChunkPos pos = new ChunkPos(center.x + dx, center.z + dz);
+                    if (data.isChunkPlayable(pos) || SourceChunkTemplateStore.contains(server, biomeId, pos)) {
+                        continue;
+                    }
+                    QUEUE.addLast(new Task(biomeId, pos));
+                }
+            }
+        }
+
+        total = QUEUE.size();
+        onComplete = completion;
+        ticksUntilProgressLog = PROGRESS_LOG_INTERVAL_TICKS;
+
+        if (total == 0 && completion != null) {
+            completion.run();
+            onComplete = null;
+        }
+        return total;
+    }
+
+    private static Set<ResourceLocation> collectTierBiomes(MinecraftServer server) {
+        // Sorted so runs (and packs) are reproducible.
+        Set<ResourceLocation> biomes = new TreeSet<>();
+        for (ChunkSpawnerTier tier : ChunkSpawnerTier.values()) {
+            if (!BrightbronzeConfig.isTierEnabled(tier)) {
+                continue;
+            }
+            for (BiomeRuleManager.WeightedBiomeEntry entry : BiomeRuleManager.getWeightedPool(server.registryAccess(), tier).entries()) {
+                ResourceLocation id = BiomePoolManager.getBiomeId(entry.biome());
+                if (id != null) {
+                    biomes.add(id);
+                }
+            }
+        }
+        return biomes;
+    }
+
+    private static void tick(MinecraftServer server) {
+        if (!isRunning()) {
+            return;
+        }
+
+        collectFinished(server);
+        startNext(server);
+
+        if (--ticksUntilProgressLog <= 0) {
+            ticksUntilProgressLog = PROGRESS_LOG_INTERVAL_TICKS;
+            BrightbronzeHorizons.LOGGER.info("Template pregeneration: {}", describeProgress());
+        }
+
+        if (!isRunning()) {
+            BrightbronzeHorizons.LOGGER.info("Template pregeneration complete: {}", describeProgress());
+            Runnable completion = onComplete;
+            onComplete = null;
+            if (completion != null) {
+                completion.run();
+            }
+        }
+    }
+
+    private static void collectFinished(MinecraftServer server) {
+        Iterator<InFlight> it = IN_FLIGHT.iterator();
+        while (it.hasNext()) {
+            InFlight inFlight = it.next();
+            Task task = inFlight.task();
+            if (!inFlight.chunk().isDone()) {
+                Versioned.chunkTickets().addCopyTicket(inFlight.level(), task.pos());
+                continue;
+            }
+
+            try {
+                ChunkAccess chunk = inFlight.chunk().getNow(GenerationChunkHolder.UNLOADED_CHUNK).orElse(null);
+                if (chunk instanceof LevelChunk levelChunk) {
+                    SourceChunkTemplateStore.put(server, task.biomeId(), ChunkTemplate.capture(inFlight.level(), levelChunk));
+                    baked++;
+                } else {
+                    failed++;
+                }
+            } catch (Exception e) {
+                failed++;
+                BrightbronzeHorizons.LOGGER.warn("Failed to bake template {} for {}: {}", task.pos(), task.biomeId(), e.getMessage());
+            } finally {
+                release(inFlight);
+                it.remove();
+            }
+        }
+    }
+
+    private static void startNext(MinecraftServer server) {
+        while (IN_FLIGHT.size() < MAX_IN_FLIGHT && !QUEUE.isEmpty()) {
+            if (!headless && server.getAverageTickTimeNanos() > MAX_AVERAGE_TICK_NANOS) {
+                return;
+            }
+
+            Task task = QUEUE.pollFirst();
+            SourceDimensionLifecycle.acquire(task.biomeId());
+            ServerLevel level = SourceDimensionManager.getOrCreateSourceDimension(server, task.biomeId());
+            if (level == null || level.dimension() == Level.OVERWORLD) {
+                SourceDimensionLifecycle.release(task.biomeId());
+                failed++;
+                continue;
+            }
+
+            Versioned.chunkTickets().addCopyTicket(level, task.pos());
+            IN_FLIGHT.add(new InFlight(task, level,
+                level.getChunkSource().getChunkFuture(task.pos().x, task.pos().z, ChunkStatus.FULL, true)));
+        }
+    }
+
+    private static void release(InFlight inFlight) {
+        Versioned.chunkTickets().removeCopyTicket(inFlight.level(), inFlight.task().pos());
+        SourceDimensionLifecycle.release(inFlight.task().biomeId());
+    }
+
+    private static void reset() {
+        for (InFlight inFlight : IN_FLIGHT) {
+            release(inFlight);
+        }
+        IN_FLIGHT.clear();
+        QUEUE.clear();
+        onComplete = null;
+        total = 0;
+        baked = 0;
+        failed = 0;
+    }
+}
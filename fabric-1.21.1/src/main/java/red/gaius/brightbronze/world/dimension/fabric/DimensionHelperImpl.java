@@ -165,6 +165,9 @@ public class DimensionHelperImpl {
             // Remove from the server's levels map
             ((MinecraftServerAccessor) server).getLevels().remove(dimensionKey);
 
+            // Release chunk IO workers and region file handles
+            level.close();
+
             BrightbronzeHorizons.LOGGER.info(
                 "Unloaded dynamic dimension: {}", dimensionKey.location()
             );
@@ -161,6 +161,9 @@ public class DimensionHelperImpl {
             // Remove from the server's levels map via mixin
             ((MinecraftServerAccessor) server).getLevels().remove(dimensionKey);
 
+            // Release chunk IO workers and region file handles
+            level.close();
+
             BrightbronzeHorizons.LOGGER.info(
                 "Unloaded dynamic dimension: {}", dimensionKey.location()
             );